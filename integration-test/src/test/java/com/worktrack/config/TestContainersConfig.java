@@ -26,6 +26,7 @@ public class TestContainersConfig {
                 .withDatabaseName(props.database())
                 .withUsername(props.username())
                 .withPassword(props.password())
+                .withUrlParam("rewriteBatchedStatements", "true")
                 .withReuse(true);
     }
 
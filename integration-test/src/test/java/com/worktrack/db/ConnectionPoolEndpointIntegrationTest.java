@@ -0,0 +1,100 @@
+package com.worktrack.db;
+
+import com.worktrack.base.AbstractWebIntegrationTest;
+import com.worktrack.dto.request.auth.LoginRequest;
+import com.worktrack.dto.request.user.RegisterUserRequest;
+import com.worktrack.dto.response.LoginResponse;
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.auth.User;
+import com.worktrack.infra.db.PoolSizeAdvisor;
+import com.worktrack.repo.ProjectRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
+import com.worktrack.repo.user.UserRepository;
+import com.worktrack.util.JsonUtils;
+import com.worktrack.util.UserTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ConnectionPoolEndpointIntegrationTest extends AbstractWebIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonUtils jsonUtils;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Autowired
+    private PoolSizeAdvisor poolSizeAdvisor;
+
+    @BeforeEach
+    void setup() {
+        softDeleteFilter.runIncludingDeleted(() -> {
+            projectRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("should report the pool size recommendation and per-endpoint usage to admins")
+    void shouldReportRecommendationToAdmin() throws Exception {
+        String bearer = "Bearer " + registerAndLogin(Role.ADMIN);
+        poolSizeAdvisor.evaluate();
+
+        mockMvc.perform(get("/actuator/dbpool").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recommendation.recommendedMaximumPoolSize",
+                        allOf(greaterThanOrEqualTo(4), lessThanOrEqualTo(50))))
+                .andExpect(jsonPath("$.recommendation.windows", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.endpoints[*].endpoint", hasItem("POST /layered/api/v1/users/register")));
+    }
+
+    @Test
+    @DisplayName("should forbid the pool report for non-admins")
+    void shouldForbidReportForEmployee() throws Exception {
+        String bearer = "Bearer " + registerAndLogin(Role.EMPLOYEE);
+
+        mockMvc.perform(get("/actuator/dbpool").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isForbidden());
+    }
+
+    private String registerAndLogin(Role role) throws Exception {
+        RegisterUserRequest request = UserTestUtils.dummyRegistrationRequest();
+        mockMvc.perform(post("/layered/api/v1/users/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonUtils.asJsonString(request)))
+                .andExpect(status().isOk());
+        User user = userRepository.findActiveByUsername(request.username()).orElseThrow();
+        user.setRole(role);
+        userRepository.save(user);
+
+        String body = mockMvc.perform(post("/layered/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonUtils.asJsonString(new LoginRequest(request.username(), request.password()))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return jsonUtils.fromJsonString(body, LoginResponse.class).token();
+    }
+}
@@ -0,0 +1,158 @@
+package com.worktrack.db;
+
+import com.worktrack.base.AbstractIntegrationTest;
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.auth.User;
+import com.worktrack.infra.db.ReadWriteRoutingDataSource;
+import com.worktrack.infra.db.ReadWriteRoutingDataSource.Route;
+import com.worktrack.infra.db.ReplicaLagMonitor;
+import com.worktrack.repo.ProjectRepository;
+import com.worktrack.repo.user.UserRepository;
+import com.worktrack.service.auth.AuthService;
+import com.worktrack.service.user.UserServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistrar;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.MySQLContainer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The "replica" is the same MySQL database behind a second pool, which is enough to check which pool
+ * each transaction is routed to.
+ */
+@Import(ReadReplicaRoutingIntegrationTest.ReplicaConfig.class)
+@TestPropertySource(properties = {
+        "db.replica.enabled=true",
+        "db.replica.lag-query=SELECT 0 AS Seconds_Behind_Source",
+        // Keeps the scheduled count refresh from adding replica reads while a test counts them.
+        "projects.count-estimate.initial-delay=PT1H"
+})
+class ReadReplicaRoutingIntegrationTest extends AbstractIntegrationTest {
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ReplicaConfig {
+
+        @Bean
+        DynamicPropertyRegistrar replicaUrl(MySQLContainer<?> mysqlContainer) {
+            return registry -> registry.add("db.replica.url", mysqlContainer::getJdbcUrl);
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private ReadWriteRoutingDataSource routing;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        routing = dataSource.unwrap(ReadWriteRoutingDataSource.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        replicaLagMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("read-only transactions should be served by the replica pool")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        long replicaBefore = routing.connectionCount(Route.REPLICA);
+        long primaryBefore = routing.connectionCount(Route.PRIMARY);
+
+        readOnly.execute(tx -> projectRepository.countActive());
+
+        assertThat(routing.connectionCount(Route.REPLICA)).isEqualTo(replicaBefore + 1);
+        assertThat(routing.connectionCount(Route.PRIMARY)).isEqualTo(primaryBefore);
+    }
+
+    @Test
+    @DisplayName("reads after a write in the same request should be served by the primary")
+    void shouldReadOwnWritesFromPrimary() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        String username = "replica-" + UUID.randomUUID().toString().substring(0, 8);
+
+        readWrite.executeWithoutResult(tx -> userRepository.save(
+                new User(username, username + "@test.com", "{noop}secret", "Replica Routing", Role.EMPLOYEE)));
+        long replicaBefore = routing.connectionCount(Route.REPLICA);
+
+        var found = readOnly.execute(tx -> userRepository.findActiveByUsername(username));
+
+        assertThat(found).isPresent();
+        assertThat(routing.connectionCount(Route.REPLICA)).isEqualTo(replicaBefore);
+    }
+
+    @Test
+    @DisplayName("token version and user snapshot loads should be served by the primary")
+    void shouldLoadSecurityStateFromPrimary() {
+        String username = "replica-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = readWrite.execute(tx -> userRepository.save(
+                new User(username, username + "@test.com", "{noop}secret", "Replica Routing", Role.EMPLOYEE)));
+        long replicaBefore = routing.connectionCount(Route.REPLICA);
+
+        assertThat(userService.findActiveTokenVersion(user.getId())).isPresent();
+        assertThat(userService.findSnapshotByUsername(username)).isPresent();
+        assertThat(userService.loadUserByUsername(username).getUsername()).isEqualTo(username);
+
+        assertThat(routing.connectionCount(Route.REPLICA)).isEqualTo(replicaBefore);
+    }
+
+    @Test
+    @DisplayName("login should read the user from the primary")
+    void shouldAuthenticateAgainstPrimary() {
+        String username = "replica-" + UUID.randomUUID().toString().substring(0, 8);
+        readWrite.executeWithoutResult(tx -> userRepository.save(new User(username, username + "@test.com",
+                passwordEncoder.encode("secret"), "Replica Routing", Role.EMPLOYEE)));
+        long replicaBefore = routing.connectionCount(Route.REPLICA);
+        long primaryBefore = routing.connectionCount(Route.PRIMARY);
+
+        assertThat(authService.authenticate(username, "secret").token()).isNotBlank();
+
+        assertThat(routing.connectionCount(Route.REPLICA)).isEqualTo(replicaBefore);
+        assertThat(routing.connectionCount(Route.PRIMARY)).isGreaterThan(primaryBefore);
+    }
+}
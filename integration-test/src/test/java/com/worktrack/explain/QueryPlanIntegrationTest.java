@@ -0,0 +1,316 @@
+package com.worktrack.explain;
+
+import com.worktrack.base.AbstractIntegrationTest;
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.auth.User;
+import com.worktrack.entity.base.Status;
+import com.worktrack.entity.project.Project;
+import com.worktrack.entity.project.Task;
+import com.worktrack.explain.StatementRecorder.PlanRow;
+import com.worktrack.explain.StatementRecorder.RecordedStatement;
+import com.worktrack.repo.ProjectRepository;
+import com.worktrack.repo.ProjectTaskStatsRepository;
+import com.worktrack.repo.TaskRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
+import com.worktrack.repo.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every read query of the repositories against a seeded schema, replays each statement it issued
+ * under {@code EXPLAIN} with the same parameters and fails on a full table or index scan, unless the
+ * case states why reading everything is the point.
+ * <p>
+ * Each case runs inside a transaction, as in the application, so the {@code NOT_DELETED} filter is on and
+ * the statement explained is the one production issues; the recorded SQL must carry its predicate.
+ */
+@Import(QueryPlanIntegrationTest.RecordingDataSourceConfig.class)
+class QueryPlanIntegrationTest extends AbstractIntegrationTest {
+
+    private static final StatementRecorder RECORDER = new StatementRecorder();
+
+    private static final int USERS = 200;
+    private static final int PROJECTS_PER_MANAGER = 10;
+    private static final int TASKS_PER_PROJECT = 10;
+
+    private static final Pattern FILTER_PREDICATE = Pattern.compile("\\bstatus in \\(", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EXPLICIT_PREDICATE = Pattern.compile("\\bstatus ?<> ?(\\?|'DELETED')", Pattern.CASE_INSENSITIVE);
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class RecordingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor statementRecordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return (bean instanceof DataSource dataSource && beanName.equals("dataSource"))
+                            ? RECORDER.wrap(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * How a case's statements exclude soft-deleted rows.
+     */
+    private enum SoftDelete {
+        /** The {@code NOT_DELETED} filter adds its predicate. */
+        FILTER,
+        /**
+         * The predicate is spelled out and the filter is off or not applicable: native locking reads and
+         * listings that keep soft-deleted owners. Runs read-write, which the locks need.
+         */
+        EXPLICIT,
+        /** Run through {@code SoftDeleteFilter.includingDeleted}, so no predicate at all. */
+        NONE
+    }
+
+    private record QueryCase(String method, Runnable call, String fullScanReason, SoftDelete softDelete) {
+
+        QueryCase with(SoftDelete softDelete) {
+            return new QueryCase(method, call, fullScanReason, softDelete);
+        }
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+    private User assignee;
+    private Project project;
+    private Project cursor;
+    private List<Long> taskIds;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @BeforeAll
+    void seed() {
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        softDeleteFilter.runIncludingDeleted(() -> {
+            taskRepository.deleteAll();
+            projectRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            Role role = (i % 50 == 0) ? Role.ADMIN : (i % 10 == 1) ? Role.MANAGER : Role.EMPLOYEE;
+            var user = new User("plan-user-" + i, "plan-user-" + i + "@test.com", "{noop}secret", "Plan User " + i, role);
+            if (i % 5 == 4) {
+                user.setStatus(Status.DELETED);
+            }
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+        List<User> managers = users.stream().filter(u -> u.getRole() == Role.MANAGER).toList();
+        List<User> employees = users.stream()
+                .filter(u -> u.getRole() == Role.EMPLOYEE && u.getStatus() == Status.ACTIVE)
+                .toList();
+
+        List<Project> projects = new ArrayList<>();
+        for (User manager : managers) {
+            for (int i = 0; i < PROJECTS_PER_MANAGER; i++) {
+                var p = new Project(manager.getUsername() + " project " + i, null, manager);
+                if (i % 3 == 2) {
+                    p.setStatus(Status.DELETED);
+                }
+                projects.add(p);
+            }
+        }
+        projectRepository.saveAll(projects);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int p = 0; p < projects.size(); p++) {
+            for (int i = 0; i < TASKS_PER_PROJECT; i++) {
+                User taskAssignee = (i % 5 == 0) ? null : employees.get((p + i) % employees.size());
+                var task = new Task("Task " + i, null, projects.get(p), taskAssignee);
+                if (i % 4 == 3) {
+                    task.setStatus(Status.DELETED);
+                }
+                tasks.add(task);
+            }
+        }
+        taskRepository.saveAll(tasks);
+        jdbcTemplate.execute("ANALYZE TABLE users, project, task");
+
+        owner = managers.getFirst();
+        project = projects.getFirst();
+        cursor = projects.get(projects.size() / 2 + 1);
+        List<Task> projectTasks = tasks.stream()
+                .filter(t -> t.getProject() == project && t.getStatus() == Status.ACTIVE)
+                .toList();
+        taskIds = projectTasks.stream().map(Task::getId).toList();
+        assignee = projectTasks.stream().map(Task::getAssignedTo).filter(Objects::nonNull).findFirst().orElseThrow();
+    }
+
+    private List<QueryCase> cases() {
+        Pageable page = PageRequest.of(0, 20, Sort.by("id"));
+        Long projectId = project.getId();
+        Long taskId = taskIds.getFirst();
+        return List.of(
+                query("ProjectRepository.findAllActiveViewsByOwnerId",
+                        () -> projectRepository.findAllActiveViewsByOwnerId(owner.getId())),
+                fullScan("ProjectRepository.findAllViewsByStatusNot", "its count query counts every active project",
+                        () -> softDeleteFilter.includingDeleted(
+                                () -> projectRepository.findAllViewsByStatusNot(Status.DELETED, page)))
+                        .with(SoftDelete.EXPLICIT),
+                query("ProjectRepository.findViewSliceByStatusNot", () -> softDeleteFilter.includingDeleted(
+                        () -> projectRepository.findViewSliceByStatusNot(Status.DELETED, page)))
+                        .with(SoftDelete.EXPLICIT),
+                fullScan("ProjectRepository.countActive", "counts every active project",
+                        () -> projectRepository.countActive()),
+                fullScan("ProjectRepository.countGroupedByStatus", "counts every project",
+                        () -> softDeleteFilter.includingDeleted(projectRepository::countGroupedByStatus))
+                        .with(SoftDelete.NONE),
+                query("ProjectRepository.findActiveById", () -> projectRepository.findActiveById(projectId)),
+                query("ProjectRepository.findFirstKeysetPage",
+                        () -> projectRepository.findFirstKeysetPage(PageRequest.of(0, 20))),
+                query("ProjectRepository.findKeysetPageAfter",
+                        () -> projectRepository.findKeysetPageAfter(cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, 20))),
+                query("ProjectRepository.findActiveByIdWithOwner",
+                        () -> projectRepository.findActiveByIdWithOwner(projectId)),
+
+                query("TaskRepository.findAllActiveViewsByProjectId",
+                        () -> taskRepository.findAllActiveViewsByProjectId(projectId)),
+                query("TaskRepository.findActiveViewsByProjectIdAfter",
+                        () -> taskRepository.findActiveViewsByProjectIdAfter(projectId, taskId, PageRequest.of(0, 20))),
+                query("TaskRepository.lockActiveVersionRowsByIds",
+                        () -> taskRepository.lockActiveVersionRowsByIds(projectId, taskIds))
+                        .with(SoftDelete.EXPLICIT),
+                query("TaskRepository.lockActiveVersionRowsByAssignee",
+                        () -> taskRepository.lockActiveVersionRowsByAssignee(projectId, assignee.getId(), 0L, 1000))
+                        .with(SoftDelete.EXPLICIT),
+                query("TaskRepository.countActiveGroupedByTaskStatus",
+                        () -> taskRepository.countActiveGroupedByTaskStatus(projectId)),
+                query("TaskRepository.findActiveTaskStatus", () -> taskRepository.findActiveTaskStatus(taskId, projectId)),
+                query("TaskRepository.findActiveByIdAndProjectId",
+                        () -> taskRepository.findActiveByIdAndProjectId(taskId, projectId)),
+
+                query("UserRepository.findActiveByUsername", () -> userRepository.findActiveByUsername(owner.getUsername())),
+                query("UserRepository.findByRole", () -> userRepository.findByRole(Role.ADMIN)),
+                query("UserRepository.findAllActiveByRole", () -> userRepository.findAllActiveByRole(Role.MANAGER)),
+                query("UserRepository.findActiveById", () -> userRepository.findActiveById(owner.getId())),
+                query("UserRepository.findActiveTokenVersionById",
+                        () -> userRepository.findActiveTokenVersionById(owner.getId())),
+                query("UserRepository.existsByUsername", () -> userRepository.existsByUsername(owner.getUsername())),
+                query("UserRepository.existsByEmail", () -> userRepository.existsByEmail(owner.getEmail())),
+                fullScan("UserRepository.findAllActives", "lists every active user", () -> userRepository.findAllActives()),
+                query("UserRepository.findActiveViewsByIds",
+                        () -> userRepository.findActiveViewsByIds(List.of(owner.getId(), assignee.getId())))
+        );
+    }
+
+    @TestFactory
+    @DisplayName("repository queries should not scan a whole table or index")
+    Stream<DynamicTest> repositoryQueriesAvoidFullScans() {
+        return cases().stream().map(queryCase -> DynamicTest.dynamicTest(queryCase.method(), () -> assertPlan(queryCase)));
+    }
+
+    @Test
+    @DisplayName("every read query of the repositories should have a plan check")
+    void everyRepositoryQueryIsCovered() {
+        Set<String> declared = Stream.of(ProjectRepository.class, TaskRepository.class, UserRepository.class,
+                        ProjectTaskStatsRepository.class)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(m -> !m.isDefault() && !m.isSynthetic() && !Modifier.isStatic(m.getModifiers()))
+                        .filter(m -> !m.isAnnotationPresent(Modifying.class))
+                        .map(m -> repository.getSimpleName() + "." + m.getName()))
+                .collect(Collectors.toSet());
+
+        assertThat(cases()).extracting(QueryCase::method).containsExactlyInAnyOrderElementsOf(declared);
+    }
+
+    private void assertPlan(QueryCase queryCase) throws Exception {
+        // Served from the second-level or query cache, the repository call would issue no SQL at all.
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+
+        TransactionTemplate transaction = (queryCase.softDelete() == SoftDelete.EXPLICIT)
+                ? transactionTemplate
+                : readOnlyTransactionTemplate;
+        List<RecordedStatement> statements = RECORDER.record(
+                () -> transaction.executeWithoutResult(tx -> queryCase.call().run()));
+
+        assertThat(statements).as("statements issued by %s", queryCase.method()).isNotEmpty();
+        for (RecordedStatement statement : statements) {
+            switch (queryCase.softDelete()) {
+                case FILTER -> assertThat(statement.sql()).as(queryCase.method()).containsPattern(FILTER_PREDICATE);
+                case EXPLICIT -> assertThat(statement.sql()).as(queryCase.method())
+                        .containsPattern(EXPLICIT_PREDICATE)
+                        .doesNotContainPattern(FILTER_PREDICATE);
+                case NONE -> assertThat(statement.sql()).as(queryCase.method()).doesNotContainPattern(FILTER_PREDICATE);
+            }
+            List<PlanRow> plan = RECORDER.explain(dataSource, statement);
+            if (queryCase.fullScanReason() == null) {
+                assertThat(plan)
+                        .as("%s%n%s%n%s", queryCase.method(), statement.sql(), plan)
+                        .noneMatch(PlanRow::isFullScan);
+            }
+        }
+    }
+
+    private static QueryCase query(String method, Runnable call) {
+        return new QueryCase(method, call, null, SoftDelete.FILTER);
+    }
+
+    private static QueryCase fullScan(String method, String reason, Runnable call) {
+        return new QueryCase(method, call, reason, SoftDelete.FILTER);
+    }
+}
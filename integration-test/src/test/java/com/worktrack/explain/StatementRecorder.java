@@ -0,0 +1,126 @@
+package com.worktrack.explain;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps a {@link DataSource} and, while {@link #record(Runnable)} runs on the current thread, keeps every
+ * executed prepared statement together with the setter calls that bound its parameters, so it can be
+ * replayed under {@code EXPLAIN} with the same values.
+ */
+public class StatementRecorder {
+
+    public record RecordedStatement(String sql, List<Binding> bindings) {
+    }
+
+    public record Binding(Method setter, Object[] args) {
+    }
+
+    /**
+     * One row of MySQL's {@code EXPLAIN}; {@code type} is {@code ALL} for a full table scan and
+     * {@code index} for a full index scan.
+     */
+    public record PlanRow(String table, String type, String key, Long rows, String extra) {
+
+        public boolean isFullScan() {
+            return "ALL".equals(type) || "index".equals(type);
+        }
+    }
+
+    private interface Invocation {
+        Object proceed(Method method, Object[] args) throws Throwable;
+    }
+
+    private final ThreadLocal<List<RecordedStatement>> recording = new ThreadLocal<>();
+
+    public List<RecordedStatement> record(Runnable work) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            work.run();
+        } finally {
+            recording.remove();
+        }
+        return statements;
+    }
+
+    public DataSource wrap(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return connection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return connection(super.getConnection(username, password));
+            }
+        };
+    }
+
+    public List<PlanRow> explain(DataSource dataSource, RecordedStatement statement) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                binding.setter().invoke(explain, binding.args());
+            }
+            List<PlanRow> plan = new ArrayList<>();
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    plan.add(new PlanRow(rs.getString("table"), rs.getString("type"), rs.getString("key"),
+                            rs.getObject("rows", Long.class), rs.getString("Extra")));
+                }
+            }
+            return plan;
+        }
+    }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = method.invoke(target, args);
+            if (method.getName().equals("prepareStatement") && recording.get() != null) {
+                return preparedStatement((PreparedStatement) result, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement preparedStatement(PreparedStatement target, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.startsWith("execute") && args == null) {
+                List<RecordedStatement> statements = recording.get();
+                if (statements != null) {
+                    statements.add(new RecordedStatement(sql, List.copyOf(bindings)));
+                }
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Invocation invocation) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return invocation.proceed(method, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package com.worktrack.limit;
+
+import com.worktrack.base.AbstractWebIntegrationTest;
+import com.worktrack.dto.request.auth.LoginRequest;
+import com.worktrack.dto.request.user.RegisterUserRequest;
+import com.worktrack.dto.response.LoginResponse;
+import com.worktrack.infra.limit.GradientConcurrencyLimiter;
+import com.worktrack.repo.ProjectRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
+import com.worktrack.repo.user.UserRepository;
+import com.worktrack.util.JsonUtils;
+import com.worktrack.util.UserTestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.worktrack.dto.response.ErrorCode.SERVICE_OVERLOADED;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ConcurrencyLimitIntegrationTest extends AbstractWebIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonUtils jsonUtils;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Autowired
+    @Qualifier("standardLaneLimiter")
+    private GradientConcurrencyLimiter standardLane;
+
+    private final List<GradientConcurrencyLimiter.Permit> held = new ArrayList<>();
+
+    private RegisterUserRequest user;
+
+    @BeforeEach
+    void setup() throws Exception {
+        softDeleteFilter.runIncludingDeleted(() -> {
+            projectRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+        user = UserTestUtils.dummyRegistrationRequest();
+        mockMvc.perform(post("/layered/api/v1/users/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonUtils.asJsonString(user)))
+                .andExpect(status().isOk());
+    }
+
+    @AfterEach
+    void releasePermits() {
+        // Released without a latency sample, so the limit other tests see is unchanged.
+        held.forEach(GradientConcurrencyLimiter.Permit::ignore);
+        held.clear();
+    }
+
+    @Test
+    @DisplayName("should shed API requests with 503 and Retry-After once the standard lane is full")
+    void shouldShedWhenStandardLaneIsFull() throws Exception {
+        String token = login().andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        String bearer = "Bearer " + jsonUtils.fromJsonString(token, LoginResponse.class).token();
+
+        saturateStandardLane();
+
+        mockMvc.perform(get("/layered/api/v1/projects/me")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.code").value(SERVICE_OVERLOADED.name()));
+
+        releasePermits();
+
+        mockMvc.perform(get("/layered/api/v1/projects/me")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("should still serve login from the priority lane while the standard lane is full")
+    void shouldServeLoginWhileStandardLaneIsFull() throws Exception {
+        saturateStandardLane();
+
+        login().andExpect(status().isOk());
+    }
+
+    private void saturateStandardLane() {
+        Optional<GradientConcurrencyLimiter.Permit> permit;
+        while ((permit = standardLane.tryAcquire()).isPresent()) {
+            held.add(permit.get());
+        }
+    }
+
+    private ResultActions login() throws Exception {
+        return mockMvc.perform(post("/layered/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(jsonUtils.asJsonString(new LoginRequest(user.username(), user.password()))));
+    }
+}
@@ -4,14 +4,21 @@ import com.worktrack.base.AbstractWebIntegrationTest;
 import com.worktrack.dto.request.auth.LoginRequest;
 import com.worktrack.dto.request.project.CreateProjectRequest;
 import com.worktrack.dto.request.user.RegisterUserRequest;
+import com.worktrack.dto.response.CursorPage;
 import com.worktrack.dto.response.LoginResponse;
+import com.worktrack.dto.response.project.ProjectResponse;
 import com.worktrack.entity.auth.Role;
 import com.worktrack.entity.auth.User;
 import com.worktrack.entity.base.Status;
 import com.worktrack.repo.ProjectRepository;
+import com.worktrack.repo.hibernate.HibernateCacheRegions;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
 import com.worktrack.repo.user.UserRepository;
 import com.worktrack.util.JsonUtils;
 import com.worktrack.util.UserTestUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +28,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -42,10 +50,18 @@ public class ProjectIntegrationTest extends AbstractWebIntegrationTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
     @BeforeEach
     void setup() {
-        projectRepository.deleteAll();
-        userRepository.deleteAll();
+        softDeleteFilter.runIncludingDeleted(() -> {
+            projectRepository.deleteAll();
+            userRepository.deleteAll();
+        });
     }
 
     @Nested
@@ -107,13 +123,155 @@ public class ProjectIntegrationTest extends AbstractWebIntegrationTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.content", hasSize(0)));
         }
+
+        @Test
+        @DisplayName("should keep the owner of a listed project after the owner is soft-deleted")
+        void shouldListProjectWithDeletedOwner() throws Exception {
+            AuthContext owner = registerAndLogin(Role.MANAGER);
+            AuthContext viewer = registerAndLogin(Role.MANAGER);
+            createProject(owner, "Orphaned");
+            User ownerUser = userRepository.findById(owner.userId()).orElseThrow();
+            ownerUser.setStatus(Status.DELETED);
+            userRepository.save(ownerUser);
+
+            mockMvc.perform(get("/layered/api/v1/projects")
+                            .header("Authorization", "Bearer " + viewer.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].owner.id").value(owner.userId()))
+                    .andExpect(jsonPath("$.content[0].owner.username").value(ownerUser.getUsername()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyset pagination tests")
+    class KeysetPaginationTests {
+
+        @Test
+        @DisplayName("should walk all projects newest first with an opaque cursor")
+        void shouldPageWithCursor() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            for (String name : new String[]{"Cursor 1", "Cursor 2", "Cursor 3"}) {
+                createProject(auth, name);
+            }
+
+            var firstPage = mockMvc.perform(get("/layered/api/v1/projects/cursor")
+                            .param("size", "2")
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.content[0].name").value("Cursor 3"))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn();
+
+            String cursor = jsonUtils
+                    .fromJsonString(firstPage.getResponse().getContentAsString(), CursorPage.class)
+                    .nextCursor();
+
+            mockMvc.perform(get("/layered/api/v1/projects/cursor")
+                            .param("size", "2")
+                            .param("cursor", cursor)
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].name").value("Cursor 1"))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("should return 400 for a tampered cursor")
+        void shouldRejectInvalidCursor() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+
+            mockMvc.perform(get("/layered/api/v1/projects/cursor")
+                            .param("cursor", "not-a-cursor")
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Slice listing tests")
+    class SliceListingTests {
+
+        @Test
+        @DisplayName("should skip the total with totalCount=NONE and count it with EXACT")
+        void shouldHonourTotalCountMode() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            createProject(auth, "Slice 1");
+            createProject(auth, "Slice 2");
+
+            mockMvc.perform(get("/layered/api/v1/projects")
+                            .param("totalCount", "NONE")
+                            .param("size", "1")
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+            mockMvc.perform(get("/layered/api/v1/projects")
+                            .param("totalCount", "EXACT")
+                            .param("size", "1")
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").value(2))
+                    .andExpect(jsonPath("$.totalCountMode").value("EXACT"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Second-level cache tests")
+    class SecondLevelCacheTests {
+
+        @Test
+        @DisplayName("should serve repeated findActiveById from the cache and drop it on soft delete")
+        void shouldCacheActiveProjectUntilDeleted() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            Long projectId = createProject(auth, "Cached");
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+            assertThat(projectRepository.findActiveById(projectId)).isPresent();
+            long queryHits = statistics.getQueryCacheHitCount();
+            long projectHits = statistics.getDomainDataRegionStatistics(HibernateCacheRegions.PROJECT).getHitCount();
+
+            assertThat(projectRepository.findActiveById(projectId)).isPresent();
+            assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(queryHits);
+            assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheRegions.PROJECT).getHitCount())
+                    .isGreaterThan(projectHits);
+
+            mockMvc.perform(delete("/layered/api/v1/projects/{id}", projectId)
+                            .header("Authorization", "Bearer " + auth.token()))
+                    .andExpect(status().isNoContent());
+
+            assertThat(projectRepository.findActiveById(projectId)).isEmpty();
+        }
+    }
+
+    private Long createProject(AuthContext auth, String name) throws Exception {
+        var result = mockMvc.perform(post("/layered/api/v1/projects")
+                        .header("Authorization", "Bearer " + auth.token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(jsonUtils.asJsonString(new CreateProjectRequest(name, null, auth.userId()))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return jsonUtils.fromJsonString(result.getResponse().getContentAsString(), ProjectResponse.class).id();
     }
 
     private AuthContext registerAndLogin(Role role) throws Exception {
         RegisterUserRequest registerRequest = UserTestUtils.dummyRegistrationRequest();
         register(registerRequest).andExpect(status().isOk());
 
-        User user = userRepository.findByUsernameAndStatusNot(registerRequest.username(), Status.DELETED)
+        User user = userRepository.findActiveByUsername(registerRequest.username())
                 .orElseThrow();
 
         user.setRole(role);
@@ -7,8 +7,8 @@ import com.worktrack.dto.request.user.RegisterUserRequest;
 import com.worktrack.dto.response.LoginResponse;
 import com.worktrack.entity.auth.Role;
 import com.worktrack.entity.auth.User;
-import com.worktrack.entity.base.Status;
 import com.worktrack.repo.ProjectRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
 import com.worktrack.repo.user.UserRepository;
 import com.worktrack.util.JsonUtils;
 import com.worktrack.util.UserTestUtils;
@@ -39,10 +39,15 @@ public class SecurityIntegrationTest extends AbstractWebIntegrationTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
     @BeforeEach
     void setup() {
-        projectRepository.deleteAll();
-        userRepository.deleteAll();
+        softDeleteFilter.runIncludingDeleted(() -> {
+            projectRepository.deleteAll();
+            userRepository.deleteAll();
+        });
     }
 
     @Nested
@@ -105,13 +110,40 @@ public class SecurityIntegrationTest extends AbstractWebIntegrationTest {
                             .accept(MediaType.APPLICATION_JSON))
                     .andExpect(status().isForbidden());
         }
+
+        @Test
+        @DisplayName("should allow users list for admin")
+        void shouldAllowUserListForAdmin() throws Exception {
+            AuthContext auth = registerAndLogin(Role.ADMIN);
+
+            mockMvc.perform(get("/layered/api/v1/users")
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("should let EMPLOYEE read own user but not another one")
+        void shouldLimitUserReadToSelfForEmployee() throws Exception {
+            AuthContext auth = registerAndLogin(Role.EMPLOYEE);
+            AuthContext other = registerAndLogin(Role.EMPLOYEE);
+
+            mockMvc.perform(get("/layered/api/v1/users/{id}", auth.userId())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/layered/api/v1/users/{id}", other.userId())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isForbidden());
+        }
     }
 
     private AuthContext registerAndLogin(Role role) throws Exception {
         RegisterUserRequest registerRequest = UserTestUtils.dummyRegistrationRequest();
         register(registerRequest).andExpect(status().isOk());
 
-        User user = userRepository.findByUsernameAndStatusNot(registerRequest.username(), Status.DELETED)
+        User user = userRepository.findActiveByUsername(registerRequest.username())
                 .orElseThrow();
         user.setRole(role);
         userRepository.save(user);
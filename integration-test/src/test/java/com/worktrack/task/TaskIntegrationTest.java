@@ -2,8 +2,12 @@ package com.worktrack.task;
 
 import com.worktrack.base.AbstractWebIntegrationTest;
 import com.worktrack.dto.request.auth.LoginRequest;
+import com.worktrack.dto.request.project.ChangeTaskStatusRequest;
 import com.worktrack.dto.request.project.CreateProjectRequest;
+import com.worktrack.dto.request.project.CreateTaskBatchRequest;
 import com.worktrack.dto.request.project.CreateTaskRequest;
+import com.worktrack.dto.request.project.ExpectedTaskVersion;
+import com.worktrack.dto.request.project.ReassignTasksRequest;
 import com.worktrack.dto.request.user.RegisterUserRequest;
 import com.worktrack.dto.response.LoginResponse;
 import com.worktrack.dto.response.project.ProjectResponse;
@@ -11,8 +15,11 @@ import com.worktrack.dto.response.project.TaskResponse;
 import com.worktrack.entity.auth.Role;
 import com.worktrack.entity.auth.User;
 import com.worktrack.entity.base.Status;
+import com.worktrack.entity.project.Task;
+import com.worktrack.entity.project.TaskStatus;
 import com.worktrack.repo.ProjectRepository;
 import com.worktrack.repo.TaskRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
 import com.worktrack.repo.user.UserRepository;
 import com.worktrack.util.JsonUtils;
 import com.worktrack.util.UserTestUtils;
@@ -25,10 +32,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,11 +61,16 @@ public class TaskIntegrationTest extends AbstractWebIntegrationTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
     @BeforeEach
     void setup() {
-        taskRepository.deleteAll();
-        projectRepository.deleteAll();
-        userRepository.deleteAll();
+        softDeleteFilter.runIncludingDeleted(() -> {
+            taskRepository.deleteAll();
+            projectRepository.deleteAll();
+            userRepository.deleteAll();
+        });
     }
 
     @Nested
@@ -118,6 +135,346 @@ public class TaskIntegrationTest extends AbstractWebIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Task export tests")
+    class TaskExportTests {
+
+        @Test
+        @DisplayName("should stream active tasks as NDJSON by default")
+        void shouldExportTasksAsNdjson() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Export");
+            createTask(auth, project, "Task 1");
+            createTask(auth, project, "Task 2");
+            TaskResponse removed = createTask(auth, project, "Task 3");
+
+            mockMvc.perform(delete("/layered/api/v1/projects/{projectId}/tasks/{taskId}", project.id(), removed.id())
+                            .header("Authorization", "Bearer " + auth.token()))
+                    .andExpect(status().isNoContent());
+
+            var result = mockMvc.perform(get("/layered/api/v1/projects/{projectId}/tasks/export", project.id())
+                            .header("Authorization", "Bearer " + auth.token()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andReturn();
+
+            String[] lines = result.getResponse().getContentAsString().strip().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(jsonUtils.fromJsonString(lines[0], TaskResponse.class).title()).isEqualTo("Task 1");
+            assertThat(jsonUtils.fromJsonString(lines[1], TaskResponse.class).title()).isEqualTo("Task 2");
+        }
+
+        @Test
+        @DisplayName("should stream tasks as a JSON array when requested")
+        void shouldExportTasksAsJsonArray() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Export Json");
+            createTask(auth, project, "Task 1");
+
+            mockMvc.perform(get("/layered/api/v1/projects/{projectId}/tasks/export", project.id())
+                            .param("format", "JSON")
+                            .header("Authorization", "Bearer " + auth.token()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].title").value("Task 1"));
+        }
+
+        @Test
+        @DisplayName("should return 404 before streaming for unknown project")
+        void shouldReturnNotFoundForUnknownProject() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+
+            mockMvc.perform(get("/layered/api/v1/projects/{projectId}/tasks/export", Long.MAX_VALUE)
+                            .header("Authorization", "Bearer " + auth.token()))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("Task batch create tests")
+    class TaskBatchCreateTests {
+
+        @Test
+        @DisplayName("should create valid items and reject unknown assignees per item")
+        void shouldCreateTasksInBatch() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Batch");
+
+            var request = new CreateTaskBatchRequest(List.of(
+                    new CreateTaskRequest("Task 1", "Unassigned", null),
+                    new CreateTaskRequest("Task 2", "Assigned", auth.userId()),
+                    new CreateTaskRequest("Task 3", "Unknown assignee", Long.MAX_VALUE)
+            ));
+
+            mockMvc.perform(post("/layered/api/v1/projects/{projectId}/tasks:batch", project.id())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(jsonUtils.asJsonString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created").value(2))
+                    .andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.results", hasSize(3)))
+                    .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                    .andExpect(jsonPath("$.results[1].task.assignedTo.id").value(auth.userId()))
+                    .andExpect(jsonPath("$.results[2].outcome").value("REJECTED"))
+                    .andExpect(jsonPath("$.results[2].index").value(2));
+
+            mockMvc.perform(get("/layered/api/v1/projects/{projectId}/tasks", project.id())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+        }
+
+        @Test
+        @DisplayName("should reject an empty batch")
+        void shouldRejectEmptyBatch() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Empty Batch");
+
+            mockMvc.perform(post("/layered/api/v1/projects/{projectId}/tasks:batch", project.id())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(jsonUtils.asJsonString(new CreateTaskBatchRequest(List.of()))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Project cascade delete tests")
+    class ProjectCascadeDeleteTests {
+
+        @Test
+        @DisplayName("should soft-delete the project and all of its tasks")
+        void shouldCascadeSoftDelete() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Cascade");
+            createTask(auth, project, "Task 1");
+            createTask(auth, project, "Task 2");
+            TaskResponse removed = createTask(auth, project, "Task 3");
+
+            mockMvc.perform(delete("/layered/api/v1/projects/{projectId}/tasks/{taskId}", project.id(), removed.id())
+                            .header("Authorization", "Bearer " + auth.token()))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(delete("/layered/api/v1/projects/{id}", project.id())
+                            .param("cascade", "true")
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.projectId").value(project.id()))
+                    .andExpect(jsonPath("$.tasksDeleted").value(2));
+
+            assertThat(taskRepository.findAll()).isEmpty();
+            assertThat(softDeleteFilter.includingDeleted(taskRepository::findAll))
+                    .hasSize(3)
+                    .allSatisfy(task -> assertThat(task.getStatus()).isEqualTo(Status.DELETED));
+            assertThat(projectRepository.findActiveById(project.id())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should return 404 for unknown project")
+        void shouldReturnNotFoundForUnknownProject() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+
+            mockMvc.perform(delete("/layered/api/v1/projects/{id}", Long.MAX_VALUE)
+                            .param("cascade", "true")
+                            .header("Authorization", "Bearer " + auth.token()))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("Task reassign tests")
+    class TaskReassignTests {
+
+        @Test
+        @DisplayName("should reassign tasks whose version matches and report stale ones")
+        void shouldReassignMatchingVersions() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            AuthContext other = registerAndLogin(Role.EMPLOYEE);
+            ProjectResponse project = createProject(auth, "Project Reassign");
+            TaskResponse current = createTask(auth, project, "Task 1");
+            TaskResponse stale = createTask(auth, project, "Task 2");
+
+            var request = new ReassignTasksRequest(List.of(
+                    new ExpectedTaskVersion(current.id(), current.version()),
+                    new ExpectedTaskVersion(stale.id(), stale.version() + 1)
+            ), null, other.userId());
+
+            mockMvc.perform(post("/layered/api/v1/projects/{projectId}/tasks:reassign", project.id())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(jsonUtils.asJsonString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updated", hasSize(1)))
+                    .andExpect(jsonPath("$.updated[0]").value(current.id()))
+                    .andExpect(jsonPath("$.conflicts", hasSize(1)))
+                    .andExpect(jsonPath("$.conflicts[0].taskId").value(stale.id()))
+                    .andExpect(jsonPath("$.conflicts[0].currentVersion").value(stale.version()));
+
+            assertThat(taskRepository.findById(current.id()).orElseThrow().getVersion())
+                    .isEqualTo(current.version() + 1);
+        }
+
+        @Test
+        @DisplayName("should move every task of one assignee to another")
+        void shouldReassignFromUser() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            AuthContext other = registerAndLogin(Role.EMPLOYEE);
+            ProjectResponse project = createProject(auth, "Project Handover");
+            for (String title : List.of("Task 1", "Task 2")) {
+                mockMvc.perform(post("/layered/api/v1/projects/{projectId}/tasks", project.id())
+                                .header("Authorization", "Bearer " + auth.token())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(jsonUtils.asJsonString(new CreateTaskRequest(title, title, auth.userId()))))
+                        .andExpect(status().isCreated());
+            }
+            createTask(auth, project, "Unassigned");
+
+            var request = new ReassignTasksRequest(null, auth.userId(), other.userId());
+
+            mockMvc.perform(post("/layered/api/v1/projects/{projectId}/tasks:reassign", project.id())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(jsonUtils.asJsonString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.assigneeId").value(other.userId()))
+                    .andExpect(jsonPath("$.updated", hasSize(2)))
+                    .andExpect(jsonPath("$.conflicts", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("should reject a request naming both tasks and fromUserId")
+        void shouldRejectAmbiguousSelection() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Ambiguous");
+
+            var request = new ReassignTasksRequest(
+                    List.of(new ExpectedTaskVersion(1L, 0)), auth.userId(), auth.userId());
+
+            mockMvc.perform(post("/layered/api/v1/projects/{projectId}/tasks:reassign", project.id())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(jsonUtils.asJsonString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Task status transition tests")
+    class TaskStatusTransitionTests {
+
+        @Test
+        @DisplayName("should move task and reject a second move from the stale status")
+        void shouldTransitionOnceFromExpectedStatus() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Board");
+            TaskResponse task = createTask(auth, project, "Task 1");
+            var request = new ChangeTaskStatusRequest(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+            changeStatus(auth, project, task.id(), request)
+                    .andExpect(status().isNoContent());
+
+            changeStatus(auth, project, task.id(), request)
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.code").value("TASK_STATUS_CONFLICT"));
+
+            Task stored = taskRepository.findById(task.id()).orElseThrow();
+            assertThat(stored.getTaskStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+            assertThat(stored.getVersion()).isEqualTo(task.version() + 1);
+        }
+
+        @Test
+        @DisplayName("should reject a transition the state machine does not allow")
+        void shouldRejectInvalidTransition() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Board Invalid");
+            TaskResponse task = createTask(auth, project, "Task 1");
+
+            changeStatus(auth, project, task.id(), new ChangeTaskStatusRequest(TaskStatus.TODO, TaskStatus.DONE))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 404 for unknown task")
+        void shouldReturnNotFoundForUnknownTask() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Board Missing");
+
+            changeStatus(auth, project, Long.MAX_VALUE, new ChangeTaskStatusRequest(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                    .andExpect(status().isNotFound());
+        }
+
+        private ResultActions changeStatus(AuthContext auth, ProjectResponse project, Long taskId,
+                                           ChangeTaskStatusRequest request) throws Exception {
+            return mockMvc.perform(patch("/layered/api/v1/projects/{projectId}/tasks/{taskId}/status", project.id(), taskId)
+                    .header("Authorization", "Bearer " + auth.token())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(jsonUtils.asJsonString(request)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Project task stats tests")
+    class ProjectTaskStatsTests {
+
+        @Test
+        @DisplayName("should keep per-status counts in step with task writes")
+        void shouldTrackTaskCountsByStatus() throws Exception {
+            AuthContext auth = registerAndLogin(Role.MANAGER);
+            ProjectResponse project = createProject(auth, "Project Stats");
+            TaskResponse started = createTask(auth, project, "Task 1");
+            createTask(auth, project, "Task 2");
+            TaskResponse removed = createTask(auth, project, "Task 3");
+
+            mockMvc.perform(patch("/layered/api/v1/projects/{projectId}/tasks/{taskId}/status", project.id(), started.id())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(jsonUtils.asJsonString(new ChangeTaskStatusRequest(TaskStatus.TODO, TaskStatus.IN_PROGRESS))))
+                    .andExpect(status().isNoContent());
+            mockMvc.perform(delete("/layered/api/v1/projects/{projectId}/tasks/{taskId}", project.id(), removed.id())
+                            .header("Authorization", "Bearer " + auth.token()))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/layered/api/v1/projects/{id}/stats", project.id())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.todo").value(1))
+                    .andExpect(jsonPath("$.inProgress").value(1))
+                    .andExpect(jsonPath("$.done").value(0))
+                    .andExpect(jsonPath("$.total").value(2));
+
+            mockMvc.perform(get("/layered/api/v1/projects/{id}", project.id())
+                            .header("Authorization", "Bearer " + auth.token())
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.taskStats.total").value(2));
+        }
+    }
+
+    private TaskResponse createTask(AuthContext auth, ProjectResponse project, String title) throws Exception {
+        var createResult = mockMvc.perform(post("/layered/api/v1/projects/{projectId}/tasks", project.id())
+                        .header("Authorization", "Bearer " + auth.token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(jsonUtils.asJsonString(new CreateTaskRequest(title, title, null))))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return jsonUtils.fromJsonString(
+                createResult.getResponse().getContentAsString(),
+                TaskResponse.class
+        );
+    }
+
     private ProjectResponse createProject(AuthContext auth, String name) throws Exception {
         CreateProjectRequest request = new CreateProjectRequest(
                 name,
@@ -143,7 +500,7 @@ public class TaskIntegrationTest extends AbstractWebIntegrationTest {
         RegisterUserRequest registerRequest = UserTestUtils.dummyRegistrationRequest();
         register(registerRequest).andExpect(status().isOk());
 
-        User user = userRepository.findByUsernameAndStatusNot(registerRequest.username(), Status.DELETED)
+        User user = userRepository.findActiveByUsername(registerRequest.username())
                 .orElseThrow();
 
         user.setRole(role);
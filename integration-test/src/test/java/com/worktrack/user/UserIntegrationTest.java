@@ -8,6 +8,7 @@ import com.worktrack.dto.response.user.UserResponse;
 import com.worktrack.entity.base.Status;
 import com.worktrack.repo.ProjectRepository;
 import com.worktrack.repo.TaskRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
 import com.worktrack.repo.user.UserRepository;
 import com.worktrack.util.JsonUtils;
 import com.worktrack.util.UserTestUtils;
@@ -47,11 +48,16 @@ public class UserIntegrationTest extends AbstractWebIntegrationTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
     @BeforeEach
     void setup() {
-        taskRepository.deleteAll();
-        projectRepository.deleteAll();
-        userRepository.deleteAll();
+        softDeleteFilter.runIncludingDeleted(() -> {
+            taskRepository.deleteAll();
+            projectRepository.deleteAll();
+            userRepository.deleteAll();
+        });
     }
 
 
@@ -76,7 +82,7 @@ public class UserIntegrationTest extends AbstractWebIntegrationTest {
                     .andExpect(jsonPath("$.email").value(request.email()));
 
             assertThat(userRepository.count()).isEqualTo(countBeforeTest + 1);
-            assertTrue(userRepository.findByUsernameAndStatusNot(request.username(), Status.DELETED).isPresent());
+            assertTrue(userRepository.findActiveByUsername(request.username()).isPresent());
         }
 
 
@@ -127,6 +133,26 @@ public class UserIntegrationTest extends AbstractWebIntegrationTest {
                     .andExpect(jsonPath("$.code").value(DUPLICATE_USER.name()));
             assertThat(userRepository.count()).isEqualTo(before);
         }
+
+        @Test
+        @DisplayName("should reject username of a soft-deleted user")
+        void shouldRejectUsernameOfDeletedUser() throws Exception {
+            // arrange
+            var firstUserRequest = UserTestUtils.dummyRegistrationRequest();
+            register(firstUserRequest).andExpect(status().isOk());
+            var user = userRepository.findActiveByUsername(firstUserRequest.username()).orElseThrow();
+            user.setStatus(Status.DELETED);
+            userRepository.save(user);
+            var duplicateUsernameRequest = UserTestUtils.dummyRegisterRequestWithUsername(firstUserRequest.username());
+
+            // act
+            var result = register(duplicateUsernameRequest);
+
+            // assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(DUPLICATE_USER.name()));
+            assertThat(userRepository.findActiveByUsername(firstUserRequest.username())).isEmpty();
+        }
     }
 
     @Nested
@@ -166,7 +192,7 @@ public class UserIntegrationTest extends AbstractWebIntegrationTest {
             // arrange
             var request = UserTestUtils.dummyRegistrationRequest();
             register(request).andExpect(status().isOk());
-            var user = userRepository.findByUsernameAndStatusNot(request.username(), Status.DELETED).orElseThrow();
+            var user = userRepository.findActiveByUsername(request.username()).orElseThrow();
             user.setStatus(Status.DELETED);
             userRepository.save(user);
 
@@ -175,6 +201,21 @@ public class UserIntegrationTest extends AbstractWebIntegrationTest {
                     .andExpect(status().isUnauthorized())
                     .andExpect(jsonPath("$.code").value(INVALID_CREDENTIAL.name()));
         }
+
+        @Test
+        @DisplayName("should hide soft-deleted user from repository reads outside a transaction")
+        void shouldHideDeletedUserOutsideTransaction() throws Exception {
+            // arrange
+            var request = UserTestUtils.dummyRegistrationRequest();
+            register(request).andExpect(status().isOk());
+            var user = userRepository.findActiveByUsername(request.username()).orElseThrow();
+            user.setStatus(Status.DELETED);
+            userRepository.save(user);
+
+            // act & assert
+            assertThat(userRepository.findActiveByUsername(request.username())).isEmpty();
+            assertThat(userRepository.findActiveById(user.getId())).isEmpty();
+        }
     }
 
     private ResultActions register(RegisterUserRequest req) throws Exception {
@@ -0,0 +1,141 @@
+package com.worktrack.performance;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Closed workload for comparing platform and virtual request threads on the same pod: a fixed number
+ * of logged-in users call the read endpoints back to back, so throughput is whatever the pod sustains
+ * at its CPU limit and the p99 shows how requests queue. Run it once per thread model with the same
+ * settings and compare the two reports.
+ */
+public class ThreadModelComparisonSimulation extends Simulation {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private record LoginRequest(String username, String password) {
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize request body to JSON", e);
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String raw = System.getProperty(name);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Invalid integer for -D%s: '%s'".formatted(name, raw),
+                    e
+            );
+        }
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String raw = System.getProperty(name);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Invalid number for -D%s: '%s'".formatted(name, raw),
+                    e
+            );
+        }
+    }
+
+    private final String baseUrl = System.getProperty("baseUrl", "http://localhost:8000");
+    private final String username = System.getProperty("perf.username", "performanceUser");
+    private final String password = System.getProperty("perf.password", "performanceUser");
+    private final String threadModel = System.getProperty("threadModel", "unspecified");
+
+    private final int concurrentUsers = intProperty("concurrentUsers", 400);
+    private final int rampDurationSec = intProperty("rampDurationSec", 30);
+    private final int steadyDurationSec = intProperty("steadyDurationSec", 180);
+    private final int projectPageSize = intProperty("projectPageSize", 20);
+
+    private final int p99LimitMs = intProperty("p99LimitMs", 2000);
+    private final double maxFailedPercent = doubleProperty("maxFailedPercent", 1.0);
+
+    private final String loginRequestBody = toJson(new LoginRequest(username, password));
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(baseUrl)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json");
+
+    private final ChainBuilder login = exec(
+            http("login")
+                    .post("/layered/api/v1/auth/login")
+                    .body(StringBody(loginRequestBody))
+                    .check(status().is(200))
+                    .check(jsonPath("$.token").saveAs("token"))
+    ).exec(exitHereIfFailed());
+
+    private final ChainBuilder projectsForCurrentUser = exec(
+            http("projects-me")
+                    .get("/layered/api/v1/projects/me")
+                    .header("Authorization", "Bearer #{token}")
+                    .check(status().is(200))
+    );
+
+    private final ChainBuilder projectsPage = exec(
+            http("projects-list")
+                    .get("/layered/api/v1/projects")
+                    .queryParam("size", Integer.toString(projectPageSize))
+                    .header("Authorization", "Bearer #{token}")
+                    .check(status().in(200, 204))
+    );
+
+    private final ScenarioBuilder readLoop =
+            scenario("thread-model-read-loop")
+                    .exec(login)
+                    .during(Duration.ofSeconds(rampDurationSec + steadyDurationSec))
+                    .on(exec(projectsForCurrentUser).exec(projectsPage));
+
+    {
+        if (concurrentUsers < 1) {
+            throw new IllegalArgumentException("concurrentUsers must be >= 1");
+        }
+
+        System.out.printf(
+                "Running closed workload: threadModel=%s, concurrentUsers=%d, rampDurationSec=%d, " +
+                        "steadyDurationSec=%d, p99LimitMs=%d%n",
+                threadModel, concurrentUsers, rampDurationSec, steadyDurationSec, p99LimitMs
+        );
+
+        setUp(
+                readLoop.injectClosed(
+                        rampConcurrentUsers(0).to(concurrentUsers).during(Duration.ofSeconds(rampDurationSec)),
+                        constantConcurrentUsers(concurrentUsers).during(Duration.ofSeconds(steadyDurationSec))
+                )
+        )
+                .protocols(httpProtocol)
+                .assertions(
+                        global().failedRequests().percent().lt(maxFailedPercent),
+                        global().responseTime().percentile4().lt(p99LimitMs),
+                        details("projects-me").responseTime().percentile4().lt(p99LimitMs),
+                        details("projects-list").responseTime().percentile4().lt(p99LimitMs)
+                );
+    }
+}
@@ -0,0 +1,78 @@
+package com.worktrack.benchmark;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.auth.User;
+import com.worktrack.security.jwt.JwtProperties;
+import com.worktrack.security.jwt.JwtServiceImpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.jackson.io.JacksonDeserializer;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@code JwtServiceImpl.extractUsername}.
+ * <p>
+ * {@code perRequestParser} reproduces the previous implementation, which decoded the secret and built
+ * a new key, deserializer and parser on every call; {@code cachedParser} and {@code keyRingParser}
+ * go through the current service with the legacy secret and with a rotated keyring respectively.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=JwtParseBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "bCZ0MWB9STlcNV1MN2xyNClZVm1OV1hTcF8kWS42L1M=";
+    private static final String OLD_SECRET = "bG9jYWwtZGV2LXNlY3JldC1rZXktMzItYnl0ZXMhISE=";
+    private static final long EXPIRATION_MS = 600_000;
+
+    private JwtServiceImpl legacyService;
+    private JwtServiceImpl keyRingService;
+    private String legacyToken;
+    private String keyRingToken;
+
+    @Setup
+    public void setUp() {
+        User user = new User("benchmarkUser", "benchmark@test.com", "password", "Benchmark User", Role.EMPLOYEE);
+
+        legacyService = new JwtServiceImpl(new JwtProperties(SECRET, EXPIRATION_MS));
+        legacyToken = legacyService.generateToken(user).token();
+
+        keyRingService = new JwtServiceImpl(new JwtProperties(
+                null, EXPIRATION_MS, "2025-02", Map.of("2025-01", OLD_SECRET, "2025-02", SECRET)));
+        keyRingToken = keyRingService.generateToken(user).token();
+    }
+
+    @Benchmark
+    public String perRequestParser() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .json(new JacksonDeserializer<>(Map.of()))
+                .build()
+                .parseSignedClaims(legacyToken)
+                .getPayload()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String cachedParser() {
+        return legacyService.extractUsername(legacyToken);
+    }
+
+    @Benchmark
+    public String keyRingParser() {
+        return keyRingService.extractUsername(keyRingToken);
+    }
+}
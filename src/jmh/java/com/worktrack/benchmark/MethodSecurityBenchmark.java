@@ -0,0 +1,150 @@
+package com.worktrack.benchmark;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.security.auth.AuthenticatedUser;
+import com.worktrack.security.auth.AuthenticationFacadeImpl;
+import com.worktrack.security.policy.UserPolicy;
+import com.worktrack.security.policy.UserPolicy.Action;
+import com.worktrack.security.policy.UserPolicyAuthorizationManager;
+import com.worktrack.security.policy.UserPolicyCheck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authorizing {@code UserServiceImpl.findByIdForced} for a caller reading their own user.
+ * <p>
+ * {@code spelPreAuthorize} evaluates {@code @PreAuthorize("@userPolicy.canReadUser(#id)")} as the
+ * service did before; {@code directPolicyCheck} goes through {@code @UserPolicyCheck} and
+ * {@link UserPolicyAuthorizationManager}; {@code unguarded} is the bare proxied call.
+ * {@code streamedRoleCheck} reproduces the previous {@code AuthenticationFacadeImpl.hasRole} next to
+ * the bitmask check. No request is bound, so the authorization context is resolved on every call,
+ * the worst case for the direct check.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=MethodSecurityBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MethodSecurityBenchmark {
+
+    private static final Long USER_ID = 42L;
+
+    public static class SpelGuarded {
+        @PreAuthorize("@userPolicy.canReadUser(#id)")
+        public Long read(Long id) {
+            return id;
+        }
+    }
+
+    public static class PolicyGuarded {
+        @UserPolicyCheck(Action.READ_USER)
+        public Long read(Long id) {
+            return id;
+        }
+    }
+
+    public static class Unguarded {
+        public Long read(Long id) {
+            return id;
+        }
+    }
+
+    @Param({"EMPLOYEE", "ADMIN"})
+    private Role role;
+
+    private GenericApplicationContext context;
+    private AuthenticationFacadeImpl authenticationFacade;
+    private SpelGuarded spelGuarded;
+    private PolicyGuarded policyGuarded;
+    private Unguarded unguarded;
+
+    @Setup
+    public void setUp() {
+        // JMH calls the benchmark from its own threads; a global context is visible to all of them.
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        var user = new AuthenticatedUser(USER_ID, "benchmarkUser", role, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.authorities()));
+
+        authenticationFacade = new AuthenticationFacadeImpl();
+        var userPolicy = new UserPolicy(authenticationFacade);
+        context = new GenericApplicationContext();
+        context.registerBean("userPolicy", UserPolicy.class, () -> userPolicy);
+        context.refresh();
+
+        var expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(context);
+        var preAuthorize = new PreAuthorizeAuthorizationManager();
+        preAuthorize.setExpressionHandler(expressionHandler);
+
+        spelGuarded = proxy(new SpelGuarded(), AuthorizationManagerBeforeMethodInterceptor.preAuthorize(preAuthorize));
+        policyGuarded = proxy(new PolicyGuarded(), new AuthorizationManagerBeforeMethodInterceptor(
+                new AnnotationMatchingPointcut(null, UserPolicyCheck.class, true),
+                new UserPolicyAuthorizationManager(() -> userPolicy)));
+        unguarded = proxy(new Unguarded(), null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, Advisor advisor) {
+        var factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        if (advisor != null) {
+            factory.addAdvisor(advisor);
+        }
+        return (T) factory.getProxy();
+    }
+
+    @Benchmark
+    public Long spelPreAuthorize() {
+        return spelGuarded.read(USER_ID);
+    }
+
+    @Benchmark
+    public Long directPolicyCheck() {
+        return policyGuarded.read(USER_ID);
+    }
+
+    @Benchmark
+    public Long unguarded() {
+        return unguarded.read(USER_ID);
+    }
+
+    @Benchmark
+    public boolean streamedRoleCheck() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String expected = "ROLE_" + Role.ADMIN.name();
+        return auth.getAuthorities().stream().anyMatch(a -> expected.equals(a.getAuthority()));
+    }
+
+    @Benchmark
+    public boolean bitmaskRoleCheck() {
+        return authenticationFacade.hasRole(Role.ADMIN);
+    }
+}
@@ -0,0 +1,139 @@
+package com.worktrack.benchmark;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.auth.User;
+import com.worktrack.entity.project.Project;
+import com.worktrack.entity.project.Task;
+import com.worktrack.repo.TaskRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilteringTransactionManager;
+import com.worktrack.repo.projection.TaskView;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task listing for one project: managed entities with their assignee fetched (the previous
+ * {@code findAllByProjectId}) against the {@link TaskView} constructor projection used now.
+ * <p>
+ * Runs Hibernate against in-memory H2 so the difference is the ORM work, not network or disk.
+ * Each invocation runs in a fresh read-only transaction, as a request would, so both sides get the
+ * same {@code NOT_DELETED} filter. Add {@code -prof gc} for allocation per operation:
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=TaskListingProjectionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskListingProjectionBenchmark {
+
+    private static final String ENTITY_QUERY = """
+                SELECT t
+                FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedTo a
+                WHERE p.id = :projectId
+            """;
+
+    @Param("10000")
+    private int tasks;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private TaskRepository taskRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private Long projectId;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Project.class)
+                .addAnnotatedClass(Task.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:projection-benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+                .buildSessionFactory();
+        seed();
+
+        var transactionManager = new SoftDeleteFilteringTransactionManager();
+        transactionManager.setEntityManagerFactory(sessionFactory);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(sessionFactory);
+        taskRepository = new JpaRepositoryFactory(entityManager).getRepository(TaskRepository.class);
+    }
+
+    private void seed() {
+        sessionFactory.inTransaction(session -> {
+            var owner = new User("owner", "owner@test.com", "{noop}secret", "Project Owner", Role.MANAGER);
+            session.persist(owner);
+            var project = new Project("Benchmark", "Projection benchmark", owner);
+            session.persist(project);
+            var assignees = new User[20];
+            for (int i = 0; i < assignees.length; i++) {
+                assignees[i] = new User("assignee" + i, "assignee" + i + "@test.com", "{noop}secret",
+                        "Assignee " + i, Role.EMPLOYEE);
+                session.persist(assignees[i]);
+            }
+            for (int i = 0; i < tasks; i++) {
+                User assignee = (i % 4 == 0) ? null : assignees[i % assignees.length];
+                session.persist(new Task("Task " + i, "Description of task " + i, project, assignee));
+                if (i % 500 == 0) {
+                    session.flush();
+                    session.clear();
+                    project = session.getReference(Project.class, project.getId());
+                    for (int a = 0; a < assignees.length; a++) {
+                        assignees[a] = session.getReference(User.class, assignees[a].getId());
+                    }
+                }
+            }
+            projectId = project.getId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<Task> managedEntities() {
+        return readOnlyTransaction.execute(tx -> {
+            List<Task> result = entityManager.createQuery(ENTITY_QUERY, Task.class)
+                    .setParameter("projectId", projectId)
+                    .getResultList();
+            // Touch the assignee the way the response mapping did.
+            result.forEach(task -> {
+                if (task.getAssignedTo() != null) {
+                    task.getAssignedTo().getUsername();
+                }
+            });
+            return result;
+        });
+    }
+
+    @Benchmark
+    public List<TaskView> dtoProjection() {
+        return readOnlyTransaction.execute(tx -> taskRepository.findAllActiveViewsByProjectId(projectId));
+    }
+}
@@ -0,0 +1,84 @@
+package com.worktrack.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.auth.User;
+import com.worktrack.entity.base.BaseEntity;
+import com.worktrack.infra.cache.UserSnapshotRedisSerializer;
+import com.worktrack.service.user.UserSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of a {@code users.byUsername} value.
+ * <p>
+ * {@code jackson*} reproduces the previous configuration (default-typed JSON of the {@code User} entity),
+ * {@code binary*} the {@link UserSnapshotRedisSerializer}. Payload sizes are printed once at setup.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=UserCacheSerializerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserCacheSerializerBenchmark {
+
+    private GenericJackson2JsonRedisSerializer jackson;
+    private UserSnapshotRedisSerializer binary;
+    private User user;
+    private UserSnapshot snapshot;
+    private byte[] jacksonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        var mapper = new ObjectMapper().findAndRegisterModules();
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfSubType("com.worktrack").build(),
+                ObjectMapper.DefaultTyping.NON_FINAL);
+        jackson = new GenericJackson2JsonRedisSerializer(mapper);
+        binary = new UserSnapshotRedisSerializer(new SimpleMeterRegistry(), "benchmark");
+
+        user = new User("benchmarkUser", "benchmark@test.com",
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z8Q3yL0y5eP8yQ6P8G3l1ZK2", "Benchmark User", Role.MANAGER);
+        Field id = BaseEntity.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(user, 4711L);
+        snapshot = UserSnapshot.from(user);
+
+        jacksonBytes = jackson.serialize(user);
+        binaryBytes = binary.serialize(snapshot);
+        System.out.printf("payload bytes: jackson=%d binary=%d%n", jacksonBytes.length, binaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() {
+        return jackson.serialize(user);
+    }
+
+    @Benchmark
+    public Object jacksonDecode() {
+        return jackson.deserialize(jacksonBytes);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binary.serialize(snapshot);
+    }
+
+    @Benchmark
+    public UserSnapshot binaryDecode() {
+        return binary.deserialize(binaryBytes);
+    }
+}
@@ -0,0 +1,41 @@
+package com.worktrack.common.pagination;
+
+import com.worktrack.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a keyset page ordered by {@code (created_at DESC, id DESC)}.
+ * Clients receive it as an opaque URL-safe token and must not parse it.
+ */
+public record KeysetCursor(Instant createdAt, Long id) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = ":";
+
+    public KeysetCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("KeysetCursor needs both createdAt and id");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, Long.toString(createdAt.toEpochMilli()), Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("Unsupported cursor");
+            }
+            return new KeysetCursor(Instant.ofEpochMilli(Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+}
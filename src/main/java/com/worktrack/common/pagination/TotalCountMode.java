@@ -0,0 +1,19 @@
+package com.worktrack.common.pagination;
+
+/**
+ * How a sliced listing reports its total.
+ */
+public enum TotalCountMode {
+    /**
+     * Run {@code COUNT(*)} for this request.
+     */
+    EXACT,
+    /**
+     * Use the periodically refreshed per-status counter; may lag recent writes on other pods.
+     */
+    ESTIMATED,
+    /**
+     * No total; clients page until {@code hasNext} is false.
+     */
+    NONE
+}
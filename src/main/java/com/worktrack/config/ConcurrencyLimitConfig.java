@@ -0,0 +1,42 @@
+package com.worktrack.config;
+
+import com.worktrack.infra.limit.ConcurrencyLimitInterceptor;
+import com.worktrack.infra.limit.ConcurrencyLimitProperties;
+import com.worktrack.infra.limit.GradientConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Two lanes in front of the controllers: an adaptive standard lane for the API and a small fixed
+ * priority lane for login, so shedding API load never locks users out.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public GradientConcurrencyLimiter standardLaneLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        return new GradientConcurrencyLimiter("standard", properties.initialLimit(), properties.minLimit(),
+                properties.maxLimit(), properties.tolerance(), properties.smoothing(),
+                properties.sampleWindow().toNanos(), meterRegistry, System::nanoTime);
+    }
+
+    @Bean
+    public GradientConcurrencyLimiter priorityLaneLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        int limit = properties.priorityLimit();
+        return new GradientConcurrencyLimiter("priority", limit, limit, limit, properties.tolerance(),
+                properties.smoothing(), properties.sampleWindow().toNanos(), meterRegistry, System::nanoTime);
+    }
+
+    @Bean
+    public ConcurrencyLimitInterceptor concurrencyLimitInterceptor(ConcurrencyLimitProperties properties,
+                                                                   GradientConcurrencyLimiter standardLaneLimiter,
+                                                                   GradientConcurrencyLimiter priorityLaneLimiter) {
+        return new ConcurrencyLimitInterceptor(standardLaneLimiter, priorityLaneLimiter,
+                properties.priorityPaths(), properties.retryAfter());
+    }
+}
@@ -0,0 +1,67 @@
+package com.worktrack.config;
+
+import com.worktrack.infra.db.ConnectionPoolEndpoint;
+import com.worktrack.infra.db.ConnectionPoolTuningProperties;
+import com.worktrack.infra.db.ConnectionUsageRecorder;
+import com.worktrack.infra.db.PoolSizeAdvisor;
+import com.worktrack.infra.db.UsageRecordingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Clock;
+
+/**
+ * Wraps the Hikari pool to record connection usage and derives a pool size recommendation from it,
+ * see {@link PoolSizeAdvisor}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ConnectionPoolTuningProperties.class)
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnProperty(name = "db.pool.tuning.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionPoolTuningConfig {
+
+    @Bean
+    public ConnectionUsageRecorder connectionUsageRecorder(ConnectionPoolTuningProperties properties) {
+        return new ConnectionUsageRecorder(properties.slowAcquireThreshold().toNanos(), System::nanoTime);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionUsageRecordingDataSource(ObjectProvider<ConnectionUsageRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The advisor sizes the primary pool; the replica shows up per pool in the hikaricp metrics.
+                return (bean instanceof HikariDataSource dataSource
+                        && !ReplicaRoutingConfig.REPLICA_DATA_SOURCE.equals(beanName))
+                        ? new UsageRecordingDataSource(dataSource, recorder.getObject())
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public PoolSizeAdvisor poolSizeAdvisor(ConnectionUsageRecorder recorder, DataSource dataSource,
+                                           ConnectionPoolTuningProperties properties,
+                                           MeterRegistry meterRegistry) throws SQLException {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        return new PoolSizeAdvisor(recorder, hikari.getHikariConfigMXBean(), properties, meterRegistry,
+                Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public ConnectionPoolEndpoint connectionPoolEndpoint(PoolSizeAdvisor poolSizeAdvisor,
+                                                         ConnectionUsageRecorder connectionUsageRecorder) {
+        return new ConnectionPoolEndpoint(poolSizeAdvisor, connectionUsageRecorder);
+    }
+}
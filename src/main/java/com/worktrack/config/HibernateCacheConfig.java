@@ -0,0 +1,133 @@
+package com.worktrack.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.worktrack.infra.cache.CacheInvalidationPublisher;
+import com.worktrack.infra.cache.HibernateCacheProperties;
+import com.worktrack.infra.cache.SecondLevelCacheInvalidator;
+import com.worktrack.repo.hibernate.HibernateCacheRegions;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Hibernate second-level cache on Caffeine through JCache. Regions are created here with explicit
+ * bounds rather than left to the provider defaults, which are unbounded.
+ * <p>
+ * Entity regions use {@code READ_WRITE}: an update soft-locks the entry until commit and a put only
+ * replaces an entry with an older version, so a concurrent load cannot overwrite a newer row.
+ * The regions are per JVM. With {@code cache.enabled} committed changes are broadcast over the Redis
+ * invalidation channel by {@link SecondLevelCacheInvalidator}; without it {@code cache.hibernate.entity-ttl}
+ * is the only bound on staleness across instances. {@code User} is deliberately not cached: it backs
+ * authentication and token revocation, where even a short stale window is not acceptable.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+@ConditionalOnProperty(name = "cache.hibernate.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    static final List<String> ENTITY_REGIONS = List.of(HibernateCacheRegions.PROJECT);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // One manager per application context, so contexts sharing a JVM (tests) never share regions.
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("worktrack-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : ENTITY_REGIONS) {
+            cacheManager.createCache(region, region(properties.entityMaximumSize(), properties.entityTtl()));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(properties.queryMaximumSize(), properties.entityTtl()));
+        // Must outlive every cached query result, otherwise a stale result could be judged current.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                region(properties.queryMaximumSize(), null));
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration ttl) {
+        var configuration = new CaffeineConfiguration<Object, Object>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        // Hibernate already stores disassembled state; copying it again on every get/put is waste.
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            // Feeds the hibernate.second.level.cache.* and hibernate.query.cache.* meters.
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.enabled", havingValue = "true")
+    public SecondLevelCacheInvalidator secondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                                                   CacheInvalidationPublisher invalidationPublisher) {
+        var invalidator = new SecondLevelCacheInvalidator(
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class), invalidationPublisher);
+        invalidator.register();
+        return invalidator;
+    }
+
+    /**
+     * Hit ratio per region, next to the hit/miss counters bound by Boot's Hibernate metrics.
+     */
+    @Bean
+    public MeterBinder hibernateCacheHitRatioMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : ENTITY_REGIONS) {
+                hitRatio(region, statistics, s -> s.getDomainDataRegionStatistics(region)).register(registry);
+            }
+            String queryRegion = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+            hitRatio(queryRegion, statistics, s -> s.getQueryRegionStatistics(queryRegion)).register(registry);
+        };
+    }
+
+    private static Gauge.Builder<Statistics> hitRatio(String region, Statistics statistics,
+                                                      Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        return Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> {
+                    CacheRegionStatistics stats = regionStatistics.apply(s);
+                    if (stats == null) {
+                        return Double.NaN;
+                    }
+                    long lookups = stats.getHitCount() + stats.getMissCount();
+                    return (lookups == 0) ? Double.NaN : (double) stats.getHitCount() / lookups;
+                })
+                .tag("region", region)
+                .description("Second-level cache hits over lookups since startup");
+    }
+}
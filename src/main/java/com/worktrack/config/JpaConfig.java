@@ -0,0 +1,22 @@
+package com.worktrack.config;
+
+import com.worktrack.repo.hibernate.SoftDeleteFilteringTransactionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class JpaConfig {
+
+    /**
+     * Replaces Boot's {@code JpaTransactionManager}; the entity manager factory is looked up the same way.
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        var transactionManager = new SoftDeleteFilteringTransactionManager();
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+}
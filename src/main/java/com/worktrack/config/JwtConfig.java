@@ -1,10 +1,12 @@
 package com.worktrack.config;
 
 import com.worktrack.security.jwt.JwtProperties;
+import com.worktrack.security.jwt.TokenVersionProperties;
+import com.worktrack.security.jwt.VerifiedTokenCacheProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, VerifiedTokenCacheProperties.class, TokenVersionProperties.class})
 public class JwtConfig {
 }
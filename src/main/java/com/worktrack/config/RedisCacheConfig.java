@@ -2,10 +2,21 @@ package com.worktrack.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.worktrack.infra.cache.CacheInvalidationListener;
+import com.worktrack.infra.cache.CacheInvalidationPublisher;
 import com.worktrack.infra.cache.CacheNames;
+import com.worktrack.infra.cache.CacheStampedeProperties;
+import com.worktrack.infra.cache.JitteredTtlFunction;
+import com.worktrack.infra.cache.LocalCacheProperties;
+import com.worktrack.infra.cache.NullSkippingCacheManager;
+import com.worktrack.infra.cache.RedisLoadCoordinator;
+import com.worktrack.infra.cache.TwoTierCacheManager;
+import com.worktrack.infra.cache.UserSnapshotRedisSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -13,11 +24,15 @@ import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.cache.interceptor.SimpleCacheErrorHandler;
 import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -27,12 +42,19 @@ import java.util.Map;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({LocalCacheProperties.class, CacheStampedeProperties.class})
 public class RedisCacheConfig implements CachingConfigurer {
     private final Logger logger = LoggerFactory.getLogger(RedisCacheConfig.class);
 
     @Bean
     @ConditionalOnProperty(name = "cache.enabled", havingValue = "true")
-    public CacheManager cacheManager(RedisConnectionFactory cf, ObjectMapper globalMapper) {
+    public CacheManager cacheManager(RedisConnectionFactory cf,
+                                     ObjectMapper globalMapper,
+                                     LocalCacheProperties localCacheProperties,
+                                     CacheStampedeProperties stampedeProperties,
+                                     CacheInvalidationPublisher invalidationPublisher,
+                                     RedisLoadCoordinator loadCoordinator,
+                                     MeterRegistry meterRegistry) {
 
         ObjectMapper redisMapper = globalMapper.copy();
         var ptv = BasicPolymorphicTypeValidator.builder()
@@ -43,21 +65,66 @@ public class RedisCacheConfig implements CachingConfigurer {
 
         var serializer = new GenericJackson2JsonRedisSerializer(redisMapper);
 
+        var ttl = new JitteredTtlFunction(Duration.ofMinutes(10), stampedeProperties.ttlJitter());
         var baseConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(ttl)
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
                 .disableCachingNullValues()
-                .computePrefixWith(name -> "worktrack::" + name + "::");
+                .computePrefixWith(CacheNames::redisPrefix);
 
         Map<String, RedisCacheConfiguration> cacheConfigs = Map.of(
-                CacheNames.USERS_BY_USERNAME, baseConfig.entryTtl(Duration.ofMinutes(10))
+                CacheNames.USERS_BY_USERNAME, userSnapshotConfig(baseConfig, ttl, meterRegistry, CacheNames.USERS_BY_USERNAME),
+                CacheNames.USERS_BY_ID, userSnapshotConfig(baseConfig, ttl, meterRegistry, CacheNames.USERS_BY_ID)
         );
 
-        return RedisCacheManager.builder(cf)
+        var redisCacheManager = RedisCacheManager.builder(cf)
                 .cacheDefaults(baseConfig)
                 .withInitialCacheConfigurations(cacheConfigs)
                 .build();
+        redisCacheManager.initializeCaches();
+
+        if (!localCacheProperties.enabled()) {
+            return new NullSkippingCacheManager(redisCacheManager);
+        }
+        return new TwoTierCacheManager(redisCacheManager, localCacheProperties, invalidationPublisher,
+                loadCoordinator, stampedeProperties, meterRegistry);
+    }
+
+    private static RedisCacheConfiguration userSnapshotConfig(RedisCacheConfiguration baseConfig,
+                                                              JitteredTtlFunction ttl,
+                                                              MeterRegistry meterRegistry,
+                                                              String cacheName) {
+        return baseConfig.entryTtl(ttl)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new UserSnapshotRedisSerializer(meterRegistry, cacheName)));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.enabled", havingValue = "true")
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        return new CacheInvalidationPublisher(redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.enabled", havingValue = "true")
+    public RedisLoadCoordinator redisLoadCoordinator(StringRedisTemplate redisTemplate,
+                                                     CacheStampedeProperties stampedeProperties) {
+        return new RedisLoadCoordinator(redisTemplate, stampedeProperties.lockTtl());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory cf,
+                                                                           CacheManager cacheManager,
+                                                                           CacheInvalidationPublisher invalidationPublisher,
+                                                                           ApplicationEventPublisher eventPublisher) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(
+                new CacheInvalidationListener(cacheManager, invalidationPublisher.instanceId(), eventPublisher),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
     }
 
     @Bean
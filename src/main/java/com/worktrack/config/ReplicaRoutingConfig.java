@@ -0,0 +1,103 @@
+package com.worktrack.config;
+
+import com.worktrack.infra.db.ReadWriteRoutingDataSource;
+import com.worktrack.infra.db.ReplicaLagMonitor;
+import com.worktrack.infra.db.ReplicaRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Primary and replica pools behind a routing {@link DataSource}, see {@link ReadWriteRoutingDataSource}.
+ * Defining the pools here makes Boot back off from its own, so the primary is built the way Boot
+ * would build it and keeps its {@code spring.datasource.hikari} settings. Both pools are beans, so
+ * Boot's Hikari metrics report each one under its pool name.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(name = "db.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+    public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    @Bean(PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        HikariDataSource dataSource = (details != null)
+                ? DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(details.getDriverClassName())
+                .url(details.getJdbcUrl())
+                .username(details.getUsername())
+                .password(details.getPassword())
+                .build()
+                : properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(REPLICA_DATA_SOURCE)
+    @ConfigurationProperties("db.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaRoutingProperties replica,
+                                              @Qualifier(PRIMARY_DATA_SOURCE) DataSource primaryDataSource) throws Exception {
+        if (!StringUtils.hasText(replica.url())) {
+            throw new IllegalStateException("db.replica.url is required when db.replica.enabled is true");
+        }
+        HikariDataSource primary = primaryDataSource.unwrap(HikariDataSource.class);
+        boolean ownCredentials = StringUtils.hasText(replica.username());
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.getDriverClassName())
+                .url(replica.url())
+                .username(ownCredentials ? replica.username() : primary.getUsername())
+                .password(ownCredentials ? replica.password() : primary.getPassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+                                               ReplicaRoutingProperties properties) {
+        return new ReplicaLagMonitor(replicaDataSource, properties.lagQuery(), properties.maxLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier(PRIMARY_DATA_SOURCE) DataSource primaryDataSource,
+                                 @Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        var routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public MeterBinder readWriteRoutingMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                dataSource.unwrap(ReadWriteRoutingDataSource.class).bindTo(registry);
+            } catch (SQLException ex) {
+                throw new IllegalStateException("Routing data source not found", ex);
+            }
+        };
+    }
+}
@@ -3,10 +3,20 @@ package com.worktrack.config;
 import com.worktrack.security.handler.JsonAccessDeniedHandler;
 import com.worktrack.security.handler.JsonAuthenticationEntryPoint;
 import com.worktrack.security.jwt.JwtAuthenticationFilter;
+import com.worktrack.security.policy.UserPolicy;
+import com.worktrack.security.policy.UserPolicyAuthorizationManager;
+import com.worktrack.security.policy.UserPolicyCheck;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Role;
 import org.springframework.core.annotation.Order;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -33,6 +43,20 @@ public class SecurityConfig {
         this.jsonAccessDeniedHandler = jsonAccessDeniedHandler;
     }
 
+    /**
+     * {@link UserPolicyCheck} methods are decided by a plain method call instead of evaluating
+     * {@code @PreAuthorize("@userPolicy...")} on every invocation; ordered like {@code @PreAuthorize}.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor userPolicyAuthorization(ObjectProvider<UserPolicy> userPolicy) {
+        var interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                new AnnotationMatchingPointcut(null, UserPolicyCheck.class, true),
+                new UserPolicyAuthorizationManager(userPolicy::getObject));
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
     @Bean
     @Order(1)
     @Profile({"local", "int"})
@@ -64,6 +88,7 @@ public class SecurityConfig {
                                         "/actuator/health/readiness",
                                         "/layered/api/v1/auth/login")
                                 .permitAll()
+                                .requestMatchers("/actuator/dbpool").hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 ).exceptionHandling(exceptionHandlingConfigurer ->
                         exceptionHandlingConfigurer
@@ -0,0 +1,29 @@
+package com.worktrack.config;
+
+import com.worktrack.infra.observability.VirtualThreadPinningMonitor;
+import com.worktrack.infra.observability.VirtualThreadPinningProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Request threads and {@code applicationTaskExecutor} follow {@code spring.threads.virtual.enabled}:
+ * Boot gives Jetty a virtual-thread executor and backs the task executor with virtual threads. This
+ * class only adds the pinning monitor for that mode.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(VirtualThreadPinningProperties.class)
+public class ThreadingConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(name = "threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadPinningProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties, meterRegistry);
+    }
+}
@@ -1,6 +1,8 @@
 package com.worktrack.config;
 
+import com.worktrack.infra.limit.ConcurrencyLimitInterceptor;
 import com.worktrack.infra.web.RequestContextLoggingInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -8,16 +10,25 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private static final String[] EXCLUDED_PATHS = {"/actuator/**", "/swagger-ui/**", "/v3/api-docs/**"};
+
     private final RequestContextLoggingInterceptor requestContextLoggingInterceptor;
+    private final ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor;
 
-    public WebMvcConfig(RequestContextLoggingInterceptor requestContextLoggingInterceptor) {
+    public WebMvcConfig(RequestContextLoggingInterceptor requestContextLoggingInterceptor,
+                        ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor) {
         this.requestContextLoggingInterceptor = requestContextLoggingInterceptor;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(requestContextLoggingInterceptor)
                 .addPathPatterns("/**")
-                .excludePathPatterns("/actuator/**", "/swagger-ui/**", "/v3/api-docs/**");
+                .excludePathPatterns(EXCLUDED_PATHS);
+        // After the logging interceptor, so shed requests are still logged with their 503.
+        concurrencyLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns(EXCLUDED_PATHS));
     }
 }
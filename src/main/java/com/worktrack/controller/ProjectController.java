@@ -1,7 +1,12 @@
 package com.worktrack.controller;
 
+import com.worktrack.common.pagination.TotalCountMode;
 import com.worktrack.dto.request.project.CreateProjectRequest;
+import com.worktrack.dto.response.CursorPage;
+import com.worktrack.dto.response.SliceResponse;
+import com.worktrack.dto.response.project.ProjectDeletionResponse;
 import com.worktrack.dto.response.project.ProjectResponse;
+import com.worktrack.dto.response.project.ProjectTaskStatsResponse;
 import com.worktrack.service.project.ProjectService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -37,6 +42,20 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getAllProjects(pageable));
     }
 
+    @GetMapping(params = "totalCount")
+    public ResponseEntity<SliceResponse<ProjectResponse>> getProjectSlice(
+            Pageable pageable,
+            @RequestParam(name = "totalCount") TotalCountMode totalCount) {
+        return ResponseEntity.ok(projectService.getProjectSlice(pageable, totalCount));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ProjectResponse>> getProjectsByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(projectService.getProjectsAfter(cursor, size));
+    }
+
     @GetMapping("/me")
     public ResponseEntity<List<ProjectResponse>> getAllProjectsForCurrentUser() {
         return ResponseEntity.ok(projectService.getAllProjectsForCurrentUser());
@@ -48,6 +67,12 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getProjectById(id));
     }
 
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ProjectTaskStatsResponse> getProjectTaskStats(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(projectService.getProjectTaskStats(id));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void>  deleteProject(@PathVariable("id") Long id) {
         projectService.deleteProject(id);
@@ -55,4 +80,9 @@ public class ProjectController {
                 .noContent()
                 .build();
     }
+
+    @DeleteMapping(value = "/{id}", params = "cascade=true")
+    public ResponseEntity<ProjectDeletionResponse> deleteProjectCascade(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(projectService.deleteProjectCascade(id));
+    }
 }
@@ -0,0 +1,40 @@
+package com.worktrack.controller;
+
+import com.worktrack.dto.request.project.CreateTaskBatchRequest;
+import com.worktrack.dto.request.project.ReassignTasksRequest;
+import com.worktrack.dto.response.project.TaskBatchResponse;
+import com.worktrack.dto.response.project.TaskReassignResponse;
+import com.worktrack.service.project.TaskService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Custom-method style {@code tasks:*} paths, which cannot sit under {@link TaskController}'s
+ * {@code /tasks} mapping because Spring joins class and method paths with a slash.
+ */
+@Tag(name = "Tasks", description = "Task management endpoints")
+@RestController
+@RequestMapping("layered/api/v1/projects/{projectId}")
+public class TaskBatchController {
+    private final TaskService taskService;
+
+    public TaskBatchController(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @PostMapping("/tasks:reassign")
+    public ResponseEntity<TaskReassignResponse> reassignTasks(
+            @PathVariable("projectId") Long projectId,
+            @Valid @RequestBody ReassignTasksRequest request) {
+        return ResponseEntity.ok(taskService.reassignTasks(projectId, request));
+    }
+
+    @PostMapping("/tasks:batch")
+    public ResponseEntity<TaskBatchResponse> createTasks(
+            @PathVariable("projectId") Long projectId,
+            @Valid @RequestBody CreateTaskBatchRequest request) {
+        return ResponseEntity.ok(taskService.createTasks(projectId, request.tasks()));
+    }
+}
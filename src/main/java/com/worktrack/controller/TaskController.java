@@ -4,15 +4,21 @@ import com.worktrack.common.id.ProjectId;
 import com.worktrack.common.id.ProjectTaskKey;
 import com.worktrack.common.id.TaskId;
 import com.worktrack.dto.request.project.AssignTaskRequest;
+import com.worktrack.dto.request.project.ChangeTaskStatusRequest;
 import com.worktrack.dto.request.project.CreateTaskRequest;
+import com.worktrack.dto.request.project.TaskExportFormat;
 import com.worktrack.dto.response.project.TaskResponse;
 import com.worktrack.service.project.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "Tasks", description = "Task management endpoints")
@@ -20,9 +26,11 @@ import java.util.List;
 @RequestMapping("layered/api/v1/projects/{projectId}/tasks")
 public class TaskController {
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -44,11 +52,29 @@ public class TaskController {
     }
 
 
+    @PatchMapping("/{taskId}/status")
+    public ResponseEntity<Void> changeStatus(
+            @PathVariable("projectId") Long projectId,
+            @PathVariable("taskId") Long taskId,
+            @Valid @RequestBody ChangeTaskStatusRequest request) {
+        var projectTaskKey = new ProjectTaskKey(new ProjectId(projectId), new TaskId(taskId));
+        taskService.changeStatus(projectTaskKey, request);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping
     public ResponseEntity<List<TaskResponse>> getTasks(@PathVariable("projectId") Long projectId) {
         return ResponseEntity.ok(taskService.getTasksByProject(projectId));
     }
 
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public void exportTasks(@PathVariable("projectId") Long projectId,
+                            @RequestParam(name = "format", defaultValue = "NDJSON") TaskExportFormat format,
+                            HttpServletResponse response) throws IOException {
+        taskService.exportTasksByProject(projectId,
+                new TaskExportResponseWriter(response, objectMapper, format, projectId));
+    }
+
     @DeleteMapping("/{taskId}")
     public ResponseEntity<Void> deleteTask(@PathVariable("projectId") Long projectId, @PathVariable("taskId") Long taskId) {
         var projectTaskKey = new ProjectTaskKey( new ProjectId(projectId), new TaskId(taskId));
@@ -0,0 +1,68 @@
+package com.worktrack.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worktrack.dto.request.project.TaskExportFormat;
+import com.worktrack.dto.response.project.TaskResponse;
+import com.worktrack.service.project.TaskExportSink;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported tasks straight to the servlet output stream through a single {@link JsonGenerator},
+ * so only the generator's buffer is held in memory regardless of how many tasks are exported.
+ */
+class TaskExportResponseWriter implements TaskExportSink {
+
+    private final HttpServletResponse response;
+    private final ObjectMapper objectMapper;
+    private final TaskExportFormat format;
+    private final String filename;
+    private JsonGenerator generator;
+
+    TaskExportResponseWriter(HttpServletResponse response, ObjectMapper objectMapper,
+                             TaskExportFormat format, Long projectId) {
+        this.response = response;
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.filename = "project-" + projectId + "-tasks." + (format == TaskExportFormat.JSON ? "json" : "ndjson");
+    }
+
+    @Override
+    public void begin() throws IOException {
+        response.setContentType(format == TaskExportFormat.JSON
+                ? MediaType.APPLICATION_JSON_VALUE
+                : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        if (format == TaskExportFormat.JSON) {
+            generator.writeStartArray();
+        } else {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+    }
+
+    @Override
+    public void write(TaskResponse task) throws IOException {
+        generator.writeObject(task);
+    }
+
+    @Override
+    public void end() throws IOException {
+        if (format == TaskExportFormat.JSON) {
+            generator.writeEndArray();
+        } else if (generator.getOutputContext().getEntryCount() > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+}
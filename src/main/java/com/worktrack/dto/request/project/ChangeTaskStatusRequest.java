@@ -0,0 +1,20 @@
+package com.worktrack.dto.request.project;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.worktrack.entity.project.TaskStatus;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * {@code from} is the status the client last saw; the move only applies if the task is still in it.
+ */
+public record ChangeTaskStatusRequest(
+        @NotNull TaskStatus from,
+        @NotNull TaskStatus to
+) {
+    @JsonIgnore
+    @AssertTrue(message = "Transition is not allowed")
+    public boolean isAllowedTransition() {
+        return from == null || to == null || from.canTransitionTo(to);
+    }
+}
@@ -0,0 +1,16 @@
+package com.worktrack.dto.request.project;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateTaskBatchRequest(
+        @NotEmpty
+        @Size(max = MAX_TASKS)
+        List<@Valid @NotNull CreateTaskRequest> tasks
+) {
+    public static final int MAX_TASKS = 5000;
+}
@@ -0,0 +1,8 @@
+package com.worktrack.dto.request.project;
+
+import jakarta.validation.constraints.NotNull;
+
+public record ExpectedTaskVersion(
+        @NotNull Long taskId,
+        @NotNull Integer version
+) {}
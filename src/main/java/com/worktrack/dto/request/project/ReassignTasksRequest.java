@@ -0,0 +1,31 @@
+package com.worktrack.dto.request.project;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Selects the tasks either explicitly, each with the version the client last saw, or as every active
+ * task currently assigned to {@code fromUserId}; exactly one of the two must be given.
+ */
+public record ReassignTasksRequest(
+        @Size(max = MAX_TASKS)
+        List<@Valid @NotNull ExpectedTaskVersion> tasks,
+
+        Long fromUserId,
+
+        @NotNull
+        Long toUserId
+) {
+    public static final int MAX_TASKS = 1000;
+
+    @JsonIgnore
+    @AssertTrue(message = "Provide either tasks or fromUserId")
+    public boolean isSingleSelector() {
+        return (tasks != null && !tasks.isEmpty()) != (fromUserId != null);
+    }
+}
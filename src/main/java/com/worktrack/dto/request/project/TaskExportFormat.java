@@ -0,0 +1,12 @@
+package com.worktrack.dto.request.project;
+
+public enum TaskExportFormat {
+    /**
+     * One JSON object per line ({@code application/x-ndjson}).
+     */
+    NDJSON,
+    /**
+     * A single JSON array, written element by element.
+     */
+    JSON
+}
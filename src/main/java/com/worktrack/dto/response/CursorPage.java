@@ -0,0 +1,15 @@
+package com.worktrack.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. There is no total count; pass {@code nextCursor}
+ * back as {@code cursor} to continue while {@code hasNext} is true.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
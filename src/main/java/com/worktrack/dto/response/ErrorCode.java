@@ -6,11 +6,14 @@ public enum ErrorCode {
     DUPLICATE_USER,
     ENTITY_NOT_FOUND,
     VALIDATION_ERROR,
+    INVALID_CURSOR,
+    TASK_STATUS_CONFLICT,
     DB_INTEGRITY,
     DB_DUPLICATE_KEY,
     DB_ACQUIRE_LOCK,
     ACCESS_DENIED,
     DB_QUERY_TIMEOUT,
+    SERVICE_OVERLOADED,
     UNAUTHORIZED,
     FORBIDDEN,
     INTERNAL_ERROR
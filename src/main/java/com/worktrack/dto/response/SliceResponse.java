@@ -0,0 +1,19 @@
+package com.worktrack.dto.response;
+
+import com.worktrack.common.pagination.TotalCountMode;
+
+import java.util.List;
+
+/**
+ * Offset page without a mandatory count. {@code totalElements} is {@code null} for
+ * {@link TotalCountMode#NONE} and approximate for {@link TotalCountMode#ESTIMATED}.
+ */
+public record SliceResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext,
+        Long totalElements,
+        TotalCountMode totalCountMode
+) {
+}
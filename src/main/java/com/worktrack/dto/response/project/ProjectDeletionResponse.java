@@ -0,0 +1,4 @@
+package com.worktrack.dto.response.project;
+
+public record ProjectDeletionResponse(Long projectId, long tasksDeleted) {
+}
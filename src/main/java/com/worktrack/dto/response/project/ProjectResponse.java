@@ -14,7 +14,8 @@ public record ProjectResponse(
         Integer version,
         Status status,
         String createdBy,
-        String updatedBy
+        String updatedBy,
+        ProjectTaskStatsResponse taskStats
 ) {
 }
 
@@ -0,0 +1,12 @@
+package com.worktrack.dto.response.project;
+
+public record ProjectTaskStatsResponse(Long projectId, long todo, long inProgress, long done, long total) {
+
+    public ProjectTaskStatsResponse(Long projectId, long todo, long inProgress, long done) {
+        this(projectId, todo, inProgress, done, todo + inProgress + done);
+    }
+
+    public static ProjectTaskStatsResponse empty(Long projectId) {
+        return new ProjectTaskStatsResponse(projectId, 0, 0, 0);
+    }
+}
@@ -0,0 +1,21 @@
+package com.worktrack.dto.response.project;
+
+/**
+ * Outcome for the request item at {@code index}; {@code task} is set when it was created,
+ * {@code error} when it was rejected.
+ */
+public record TaskBatchItemResult(int index, Outcome outcome, TaskResponse task, String error) {
+
+    public enum Outcome {
+        CREATED,
+        REJECTED
+    }
+
+    public static TaskBatchItemResult created(int index, TaskResponse task) {
+        return new TaskBatchItemResult(index, Outcome.CREATED, task, null);
+    }
+
+    public static TaskBatchItemResult rejected(int index, String error) {
+        return new TaskBatchItemResult(index, Outcome.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,6 @@
+package com.worktrack.dto.response.project;
+
+import java.util.List;
+
+public record TaskBatchResponse(int created, int rejected, List<TaskBatchItemResult> results) {
+}
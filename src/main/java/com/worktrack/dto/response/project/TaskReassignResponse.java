@@ -0,0 +1,6 @@
+package com.worktrack.dto.response.project;
+
+import java.util.List;
+
+public record TaskReassignResponse(Long assigneeId, List<Long> updated, List<TaskVersionConflict> conflicts) {
+}
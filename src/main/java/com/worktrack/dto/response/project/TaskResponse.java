@@ -3,5 +3,6 @@ package com.worktrack.dto.response.project;
 import com.worktrack.dto.response.user.UserResponse;
 import com.worktrack.entity.project.TaskStatus;
 
-public record TaskResponse(Long id, String title, String description, String status, UserResponse assignedTo) {}
+public record TaskResponse(Long id, String title, String description, String status, UserResponse assignedTo,
+                           Integer version) {}
 
@@ -0,0 +1,8 @@
+package com.worktrack.dto.response.project;
+
+/**
+ * A task that was not reassigned; {@code currentVersion} is {@code null} when the task is not an
+ * active task of the project.
+ */
+public record TaskVersionConflict(Long taskId, Integer expectedVersion, Integer currentVersion) {
+}
@@ -46,6 +46,9 @@ public class User extends AuditableBaseEntity implements UserDetails {
     @Column(nullable = false)
     private Role role;
 
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     public User() {}
 
     public User(String username, String email, String password, String fullName, Role role) {
@@ -107,4 +110,15 @@ public class User extends AuditableBaseEntity implements UserDetails {
         this.role = role;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    /**
+     * Invalidates every token issued so far; tokens carry the version they were issued with.
+     */
+    public void revokeTokens() {
+        this.tokenVersion++;
+    }
+
 }
@@ -4,8 +4,21 @@ import jakarta.persistence.*;
 
 @MappedSuperclass
 public abstract class BaseEntity extends BaseTimeEntity {
+    /**
+     * Ids handed out per round trip to {@code id_generator}; keep in line with {@code hibernate.jdbc.batch_size}.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY would force every INSERT to run immediately to learn its key, which disables JDBC batching.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "entity_id")
+    @TableGenerator(
+            name = "entity_id",
+            table = "id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "entity_id",
+            allocationSize = ID_ALLOCATION_SIZE)
     protected Long id;
 
     @Version
@@ -7,9 +7,15 @@ import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.ParamDef;
 
+/**
+ * Rows in {@link Status#DELETED} are hidden from every query by the {@link HibernateFilterNames#NOT_DELETED}
+ * filter, enabled for each transaction by {@code SoftDeleteFilteringTransactionManager}. The condition is an
+ * {@code IN} over the visible statuses rather than {@code <> 'DELETED'} so it can seek on indexes that
+ * include {@code status}. Loads by id ({@code find}, lazy to-one associations) are not filtered.
+ */
 @MappedSuperclass
-@FilterDef(name = HibernateFilterNames.NOT_DELETED, parameters = @ParamDef(name = HibernateFilterParameters.DELETED_STATUS, type = String.class))
-@Filter(name = HibernateFilterNames.NOT_DELETED, condition = "status != :deletedStatus") //HibernateFilterParameters.DELETED_STATUS
+@FilterDef(name = HibernateFilterNames.NOT_DELETED, parameters = @ParamDef(name = HibernateFilterParameters.VISIBLE_STATUSES, type = String.class))
+@Filter(name = HibernateFilterNames.NOT_DELETED, condition = "status in (:" + HibernateFilterParameters.VISIBLE_STATUSES + ")")
 public abstract class StatusAwareBaseEntity extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
@@ -2,12 +2,17 @@ package com.worktrack.entity.project;
 
 import com.worktrack.entity.auth.User;
 import com.worktrack.entity.base.AuditableBaseEntity;
+import com.worktrack.repo.hibernate.HibernateCacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "project")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.PROJECT)
 public class Project extends AuditableBaseEntity {
 
     @NotBlank
@@ -0,0 +1,54 @@
+package com.worktrack.entity.project;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Active task counts of one project by {@link TaskStatus}. Only written through bulk increments and
+ * recounts, so it carries no version or audit columns.
+ */
+@Entity
+@Table(name = "project_task_stats")
+public class ProjectTaskStats {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "todo_count", nullable = false)
+    private long todoCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    protected ProjectTaskStats() {
+    }
+
+    public ProjectTaskStats(Long projectId, long todoCount, long inProgressCount, long doneCount) {
+        this.projectId = projectId;
+        this.todoCount = todoCount;
+        this.inProgressCount = inProgressCount;
+        this.doneCount = doneCount;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public long getTodoCount() {
+        return todoCount;
+    }
+
+    public long getInProgressCount() {
+        return inProgressCount;
+    }
+
+    public long getDoneCount() {
+        return doneCount;
+    }
+}
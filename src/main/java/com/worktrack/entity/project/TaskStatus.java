@@ -3,5 +3,16 @@ package com.worktrack.entity.project;
 public enum TaskStatus {
     TODO,
     IN_PROGRESS,
-    DONE
+    DONE;
+
+    /**
+     * Board moves: start and stop work, finish it, or reopen a finished task.
+     */
+    public boolean canTransitionTo(TaskStatus target) {
+        return switch (this) {
+            case TODO -> target == IN_PROGRESS;
+            case IN_PROGRESS -> target == TODO || target == DONE;
+            case DONE -> target == IN_PROGRESS;
+        };
+    }
 }
@@ -0,0 +1,16 @@
+package com.worktrack.exception;
+
+import java.time.Duration;
+
+public class ServiceOverloadedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(Duration retryAfter) {
+        super("Concurrency limit reached");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
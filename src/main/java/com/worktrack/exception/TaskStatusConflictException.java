@@ -0,0 +1,7 @@
+package com.worktrack.exception;
+
+public class TaskStatusConflictException extends RuntimeException {
+    public TaskStatusConflictException(String message) {
+        super(message);
+    }
+}
@@ -5,9 +5,13 @@ import com.worktrack.dto.response.ErrorCode;
 import com.worktrack.dto.response.ErrorResponse;
 import com.worktrack.exception.EntityNotFoundException;
 import com.worktrack.exception.ErrorMessages;
+import com.worktrack.exception.InvalidCursorException;
+import com.worktrack.exception.ServiceOverloadedException;
+import com.worktrack.exception.TaskStatusConflictException;
 import com.worktrack.exception.auth.AuthenticationException;
 import com.worktrack.exception.auth.InvalidCredentialsException;
 import com.worktrack.exception.user.DuplicateUserException;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -15,6 +19,7 @@ import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -59,6 +64,18 @@ public class GlobalExceptionHandler {
         return buildResponse(ENTITY_NOT_FOUND, "The requested resource was not found.", ex);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleInvalidCursor(InvalidCursorException ex) {
+        return buildResponse(INVALID_CURSOR, "The cursor is invalid or expired. Restart from the first page.", ex);
+    }
+
+    @ExceptionHandler(TaskStatusConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleTaskStatusConflict(TaskStatusConflictException ex) {
+        return buildResponse(TASK_STATUS_CONFLICT, ex.getMessage(), ex);
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handleNoResourceFound(NoResourceFoundException ex) {
@@ -112,6 +129,13 @@ public class GlobalExceptionHandler {
         return buildResponse(DB_QUERY_TIMEOUT, "Database temporarily unavailable", ex);
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleServiceOverloaded(ServiceOverloadedException ex, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        return buildResponse(SERVICE_OVERLOADED, "The service is busy. Please retry later.", ex);
+    }
+
 
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
@@ -0,0 +1,58 @@
+package com.worktrack.infra.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Applies evictions published by other instances to the local tier only; the Redis tier
+ * was already evicted by the publisher. Second-level cache evictions are handed on as a
+ * {@link RemoteEntityEvictionEvent}.
+ */
+public class CacheInvalidationListener implements MessageListener {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final CacheManager cacheManager;
+    private final String instanceId;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CacheInvalidationListener(CacheManager cacheManager,
+                                     String instanceId,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.cacheManager = cacheManager;
+        this.instanceId = instanceId;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + CacheInvalidationPublisher.SEPARATOR, 4);
+        if (parts.length < 3 || instanceId.equals(parts[1])) {
+            return;
+        }
+        String op = parts[0];
+        String cacheName = parts[2];
+        if (CacheInvalidationPublisher.ENTITY_EVICT.equals(op) && parts.length == 4) {
+            eventPublisher.publishEvent(new RemoteEntityEvictionEvent(cacheName, parts[3]));
+            return;
+        }
+        if (!(cacheManager.getCache(cacheName) instanceof TwoTierCache cache)) {
+            return;
+        }
+        if (CacheInvalidationPublisher.EVICT.equals(op) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+            eventPublisher.publishEvent(new RemoteCacheEvictionEvent(cacheName, parts[3]));
+        } else if (CacheInvalidationPublisher.CLEAR.equals(op)) {
+            cache.clearLocal();
+            eventPublisher.publishEvent(new RemoteCacheEvictionEvent(cacheName, null));
+        } else {
+            logger.warn("Ignoring malformed cache invalidation message: {}", body);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.worktrack.infra.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Broadcasts evictions over Redis pub/sub so every instance drops its local tier.
+ * Messages are {@code E|origin|cache|key} for a single key, {@code C|origin|cache} for a clear and
+ * {@code H|origin|entity|id} for a Hibernate second-level cache entry; the origin id lets an instance
+ * skip its own messages.
+ */
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "worktrack::cache-invalidation";
+
+    static final String EVICT = "E";
+    static final String CLEAR = "C";
+    static final String ENTITY_EVICT = "H";
+    static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        redisTemplate.convertAndSend(CHANNEL, String.join(SEPARATOR, EVICT, instanceId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        redisTemplate.convertAndSend(CHANNEL, String.join(SEPARATOR, CLEAR, instanceId, cacheName));
+    }
+
+    public void publishEntityEvict(String entityName, Object id) {
+        redisTemplate.convertAndSend(CHANNEL, String.join(SEPARATOR, ENTITY_EVICT, instanceId, entityName, id.toString()));
+    }
+}
@@ -7,4 +7,8 @@ public class CacheNames {
     public static final String USERS_BY_USERNAME = "users.byUsername";
     public static final String USERS_BY_ID = "users.byUserId";
 
+    public static String redisPrefix(String cacheName) {
+        return "worktrack::" + cacheName + "::";
+    }
+
 }
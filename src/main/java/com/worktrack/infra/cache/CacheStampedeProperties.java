@@ -0,0 +1,26 @@
+package com.worktrack.infra.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param ttlJitter        fraction of the TTL that is randomly cut off, so keys written together
+ *                         expire at different times (0.1 = up to 10% shorter)
+ * @param earlyRefresh     recompute hot entries before they expire (XFetch)
+ * @param earlyRefreshBeta XFetch beta; above 1 refreshes earlier, below 1 later
+ * @param distributedLock  coalesce loads of the same key across pods with a Redis SET NX lock
+ * @param lockTtl          lease of the load lock, in case the holder dies
+ * @param lockWait         how long other pods wait for the holder's value before loading themselves
+ */
+@ConfigurationProperties(prefix = "cache.stampede")
+public record CacheStampedeProperties(
+        @DefaultValue("0.1") double ttlJitter,
+        @DefaultValue("true") boolean earlyRefresh,
+        @DefaultValue("1.0") double earlyRefreshBeta,
+        @DefaultValue("false") boolean distributedLock,
+        @DefaultValue("5s") Duration lockTtl,
+        @DefaultValue("1s") Duration lockWait
+) {
+}
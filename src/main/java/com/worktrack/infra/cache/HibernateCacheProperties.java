@@ -0,0 +1,24 @@
+package com.worktrack.infra.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Hibernate second-level cache regions, held in this JVM only and evicted across instances over the
+ * Redis invalidation channel when {@code cache.enabled} is set.
+ *
+ * @param entityMaximumSize entries kept per entity region
+ * @param entityTtl         expire-after-write for entity and query result regions; bounds how long
+ *                          another instance can serve a row changed elsewhere if an eviction is lost
+ * @param queryMaximumSize  cached query results kept
+ */
+@ConfigurationProperties(prefix = "cache.hibernate")
+public record HibernateCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long entityMaximumSize,
+        @DefaultValue("30s") Duration entityTtl,
+        @DefaultValue("10000") long queryMaximumSize
+) {
+}
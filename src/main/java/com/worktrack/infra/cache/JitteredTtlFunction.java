@@ -0,0 +1,32 @@
+package com.worktrack.infra.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis TTL drawn uniformly from {@code [ttl * (1 - jitter), ttl]}.
+ */
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final long ttlMillis;
+    private final double jitter;
+
+    public JitteredTtlFunction(Duration ttl, double jitter) {
+        this.ttlMillis = ttl.toMillis();
+        this.jitter = Math.max(0, Math.min(jitter, 1));
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        return Duration.ofMillis(jittered(ttlMillis, jitter));
+    }
+
+    static long jittered(long millis, double jitter) {
+        if (jitter == 0) {
+            return millis;
+        }
+        return millis - (long) (millis * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+}
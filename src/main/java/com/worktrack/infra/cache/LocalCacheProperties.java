@@ -0,0 +1,20 @@
+package com.worktrack.infra.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * In-process tier placed in front of every Redis cache.
+ *
+ * @param maximumSize entries kept per cache before size-based eviction
+ * @param ttl         expire-after-write; bounds staleness if an invalidation message is lost
+ */
+@ConfigurationProperties(prefix = "cache.local")
+public record LocalCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("60s") Duration ttl
+) {
+}
@@ -0,0 +1,118 @@
+package com.worktrack.infra.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Used instead of {@link TwoTierCacheManager} when the local tier is disabled. Redis caches do not
+ * cache nulls and {@code RedisCache.get(key, loader)} rejects a loader returning {@code null};
+ * here such a result is returned to the caller without being written, like {@link TwoTierCache} does.
+ */
+public class NullSkippingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public NullSkippingCacheManager(CacheManager delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new NullSkippingCache(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * Keeps the delegate's synchronized loading; a {@code null} result leaves the loader as a marker
+     * exception so the delegate never tries to store it.
+     */
+    static class NullSkippingCache implements Cache {
+
+        private static final class NullResult extends RuntimeException {
+            private NullResult() {
+                super(null, null, false, false);
+            }
+        }
+
+        private final Cache target;
+
+        NullSkippingCache(Cache target) {
+            this.target = target;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return target.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return target.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            try {
+                return target.get(key, () -> {
+                    T value = valueLoader.call();
+                    if (value == null) {
+                        throw new NullResult();
+                    }
+                    return value;
+                });
+            } catch (NullResult ex) {
+                return null;
+            } catch (ValueRetrievalException ex) {
+                if (ex.getCause() instanceof NullResult) {
+                    return null;
+                }
+                throw ex;
+            }
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            if (value != null) {
+                target.put(key, value);
+            }
+        }
+
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.worktrack.infra.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis-side helpers for {@link TwoTierCache} loads: a best-effort {@code SET NX PX} lock that lets
+ * one pod load a key while the others wait for its value, and the remaining TTL of a cached key.
+ */
+public class RedisLoadCoordinator {
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+
+    public RedisLoadCoordinator(StringRedisTemplate redisTemplate, Duration lockTtl) {
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * @return a token to pass to {@link #unlock}, or {@code null} if another pod holds the lock
+     */
+    public String tryLock(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, lockTtl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void unlock(String cacheName, String key, String token) {
+        redisTemplate.execute(RELEASE, List.of(lockKey(cacheName, key)), token);
+    }
+
+    /**
+     * @return remaining TTL in milliseconds, or a negative value if the key is missing or has no TTL
+     */
+    public long remainingTtlMillis(String cacheName, String key) {
+        Long ttl = redisTemplate.getExpire(CacheNames.redisPrefix(cacheName) + key, TimeUnit.MILLISECONDS);
+        return (ttl != null) ? ttl : -1;
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return "worktrack::lock::" + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,8 @@
+package com.worktrack.infra.cache;
+
+/**
+ * Published locally when another instance evicted a cache entry and the local tier has been dropped.
+ * A {@code null} key means the whole cache was cleared.
+ */
+public record RemoteCacheEvictionEvent(String cacheName, String key) {
+}
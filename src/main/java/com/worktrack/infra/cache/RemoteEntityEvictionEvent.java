@@ -0,0 +1,7 @@
+package com.worktrack.infra.cache;
+
+/**
+ * Published locally when another instance committed a change to a second-level cached entity.
+ */
+public record RemoteEntityEvictionEvent(String entityName, String id) {
+}
@@ -0,0 +1,97 @@
+package com.worktrack.infra.cache;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Keeps the per-JVM second-level cache in step across instances. Once a change to a cached entity
+ * commits, its id is broadcast on the cache invalidation channel; every other instance drops that
+ * entry and its cached query results, since its own update-timestamps region never saw the write.
+ */
+public class SecondLevelCacheInvalidator implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheInvalidator.class);
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheInvalidationPublisher publisher;
+
+    public SecondLevelCacheInvalidator(SessionFactoryImplementor sessionFactory, CacheInvalidationPublisher publisher) {
+        this.sessionFactory = sessionFactory;
+        this.publisher = publisher;
+    }
+
+    public void register() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        try {
+            publisher.publishEntityEvict(persister.getEntityName(), id);
+        } catch (RuntimeException e) {
+            // The write is already committed; other instances fall back to the region TTL.
+            logger.warn("Second-level cache eviction not published for entity={} id={} cause={}",
+                    persister.getEntityName(), id, e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onRemoteEntityEviction(RemoteEntityEvictionEvent event) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(event.entityName());
+        if (persister == null) {
+            logger.warn("Ignoring second-level cache eviction for unknown entity={}", event.entityName());
+            return;
+        }
+        Object id = persister.getIdentifierMapping().getJavaType().fromString(event.id());
+        sessionFactory.getCache().evictEntityData(persister.getEntityName(), id);
+        sessionFactory.getCache().evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,359 @@
+package com.worktrack.infra.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine near cache in front of a Redis cache. Reads are served locally when possible and
+ * populate the local tier from Redis on a miss; writes go to both tiers; evictions drop the local
+ * entry, the Redis entry and are broadcast so other instances drop theirs.
+ * <p>
+ * Local keys use the same string form as Redis keys, so broadcast keys match regardless of key type.
+ * When Redis is unavailable the remote call fails after the local tier was updated, and the
+ * {@code CacheErrorHandler} turns that failure into a log line.
+ * <p>
+ * {@link #get(Object, Callable)} (used by {@code @Cacheable(sync = true)}) is the stampede-safe path:
+ * <ul>
+ *     <li>concurrent misses for a key in this pod wait for a single load;</li>
+ *     <li>with {@code cache.stampede.distributed-lock} only the pod holding the Redis lock calls the
+ *     loader, the others poll Redis for its result up to {@code lock-wait};</li>
+ *     <li>with {@code cache.stampede.early-refresh} a hit may recompute the value ahead of the Redis
+ *     expiry with probability rising as expiry nears (XFetch), weighted by how long the load took.</li>
+ * </ul>
+ */
+public class TwoTierCache implements Cache {
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private static final long LOCK_POLL_MILLIS = 20;
+    private static final String NO_LOCK = "";
+
+    /**
+     * @param expiresAtMillis Redis expiry of the value, {@link Long#MAX_VALUE} when unknown
+     * @param loadNanos       time the loader took, the XFetch "delta"
+     */
+    record LocalEntry(Object value, long expiresAtMillis, long loadNanos) {
+    }
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final RedisLoadCoordinator loadCoordinator;
+    private final CacheStampedeProperties stampede;
+    private final Map<String, CompletableFuture<LocalEntry>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Counter loaderCalls;
+    private final Counter peerLoads;
+    private final Counter earlyRefreshes;
+    private volatile long lastLoadNanos = TimeUnit.MILLISECONDS.toNanos(10);
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local,
+                        Cache remote,
+                        CacheInvalidationPublisher invalidationPublisher,
+                        RedisLoadCoordinator loadCoordinator,
+                        CacheStampedeProperties stampede,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadCoordinator = loadCoordinator;
+        this.stampede = stampede;
+        this.loaderCalls = loadCounter(meterRegistry, "loader");
+        this.peerLoads = loadCounter(meterRegistry, "peer");
+        this.earlyRefreshes = loadCounter(meterRegistry, "early-refresh");
+    }
+
+    private Counter loadCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("cache.loads")
+                .tag("cache", name)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        LocalEntry entry = local.getIfPresent(localKey);
+        if (entry != null) {
+            return new SimpleValueWrapper(entry.value());
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey, new LocalEntry(wrapper.get(), Long.MAX_VALUE, lastLoadNanos));
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = (wrapper != null) ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        LocalEntry entry = local.getIfPresent(localKey);
+        if (entry == null) {
+            entry = loadOnce(key, localKey, valueLoader);
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (shouldRefreshEarly(entry)) {
+            entry = refresh(key, localKey, valueLoader, entry);
+        }
+        return (T) entry.value();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            // Redis caches are configured without null values and would reject it.
+            return;
+        }
+        local.put(localKey(key), new LocalEntry(value, Long.MAX_VALUE, lastLoadNanos));
+        remote.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        remote.evict(key);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        remote.clear();
+        invalidationPublisher.publishClear(name);
+    }
+
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * Callers that miss while a load for the key is running wait for it instead of starting another.
+     * Kept outside Caffeine's compute so a slow load does not block unrelated keys.
+     */
+    private LocalEntry loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+        var mine = new CompletableFuture<LocalEntry>();
+        CompletableFuture<LocalEntry> running = inFlight.putIfAbsent(localKey, mine);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            LocalEntry entry = loadEntry(key, localKey, valueLoader);
+            if (entry != null) {
+                local.put(localKey, entry);
+            }
+            mine.complete(entry);
+            return entry;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(localKey, mine);
+        }
+    }
+
+    private static LocalEntry await(CompletableFuture<LocalEntry> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Runs at most once per key and pod at a time. Remote failures are logged and skipped so a Redis
+     * outage degrades to local single-flight loading instead of every caller hitting the loader.
+     */
+    private LocalEntry loadEntry(Object key, String localKey, Callable<?> valueLoader) {
+        Object cached = remoteGetQuietly(key);
+        if (cached != null) {
+            return new LocalEntry(cached, remoteExpiry(localKey), lastLoadNanos);
+        }
+        String lockToken = null;
+        if (stampede.distributedLock()) {
+            lockToken = tryLockQuietly(localKey);
+            if (lockToken == null) {
+                Object loadedByPeer = awaitPeer(key);
+                if (loadedByPeer != null) {
+                    peerLoads.increment();
+                    return new LocalEntry(loadedByPeer, remoteExpiry(localKey), lastLoadNanos);
+                }
+            }
+        }
+        try {
+            return loadAndStore(key, localKey, valueLoader);
+        } finally {
+            if (lockToken != null && !lockToken.equals(NO_LOCK)) {
+                unlockQuietly(localKey, lockToken);
+            }
+        }
+    }
+
+    private LocalEntry loadAndStore(Object key, String localKey, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        long loadNanos = System.nanoTime() - start;
+        lastLoadNanos = loadNanos;
+        loaderCalls.increment();
+        if (value == null) {
+            return null;
+        }
+        remotePutQuietly(key, value);
+        return new LocalEntry(value, remoteExpiry(localKey), loadNanos);
+    }
+
+    /**
+     * XFetch: refresh when {@code now + delta * beta * -ln(rand) >= expiry}.
+     */
+    private boolean shouldRefreshEarly(LocalEntry entry) {
+        if (!stampede.earlyRefresh() || entry.expiresAtMillis() == Long.MAX_VALUE) {
+            return false;
+        }
+        double gap = entry.loadNanos() / 1_000_000.0 * stampede.earlyRefreshBeta()
+                * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= entry.expiresAtMillis();
+    }
+
+    /**
+     * Only one caller per key recomputes; everyone else, including the refresher on failure,
+     * keeps the current value.
+     */
+    private LocalEntry refresh(Object key, String localKey, Callable<?> valueLoader, LocalEntry current) {
+        if (!refreshing.add(localKey)) {
+            return current;
+        }
+        try {
+            LocalEntry refreshed = loadAndStore(key, localKey, valueLoader);
+            if (refreshed == null) {
+                return current;
+            }
+            earlyRefreshes.increment();
+            local.put(localKey, refreshed);
+            return refreshed;
+        } catch (RuntimeException ex) {
+            logger.warn("Early refresh failed for cache={} key={} cause={}", name, localKey, ex.getMessage());
+            return current;
+        } finally {
+            refreshing.remove(localKey);
+        }
+    }
+
+    private Object awaitPeer(Object key) {
+        long deadline = System.nanoTime() + stampede.lockWait().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Object value = remoteGetQuietly(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private long remoteExpiry(String localKey) {
+        if (!stampede.earlyRefresh()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            long ttl = loadCoordinator.remainingTtlMillis(name, localKey);
+            return (ttl > 0) ? System.currentTimeMillis() + ttl : Long.MAX_VALUE;
+        } catch (RuntimeException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private Object remoteGetQuietly(Object key) {
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            return (wrapper != null) ? wrapper.get() : null;
+        } catch (RuntimeException ex) {
+            logger.warn("Cache GET failed for cache={} key={} cause={}", name, key, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void remotePutQuietly(Object key, Object value) {
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException ex) {
+            logger.warn("Cache PUT failed for cache={} key={} cause={}", name, key, ex.getMessage());
+        }
+    }
+
+    private String tryLockQuietly(String localKey) {
+        try {
+            return loadCoordinator.tryLock(name, localKey);
+        } catch (RuntimeException ex) {
+            // Without Redis there is nobody to coordinate with; load locally.
+            return NO_LOCK;
+        }
+    }
+
+    private void unlockQuietly(String localKey, String token) {
+        try {
+            loadCoordinator.unlock(name, localKey, token);
+        } catch (RuntimeException ex) {
+            logger.debug("Releasing load lock failed for cache={} key={}; it expires on its own", name, localKey);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,74 @@
+package com.worktrack.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every cache of the Redis {@link CacheManager} in a {@link TwoTierCache}. Local tiers
+ * are created lazily, expire with the same jitter as Redis entries and report hit/miss/eviction
+ * metrics tagged {@code tier=local}.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remote;
+    private final LocalCacheProperties properties;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final RedisLoadCoordinator loadCoordinator;
+    private final CacheStampedeProperties stampede;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remote,
+                               LocalCacheProperties properties,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               RedisLoadCoordinator loadCoordinator,
+                               CacheStampedeProperties stampede,
+                               MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.properties = properties;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadCoordinator = loadCoordinator;
+        this.stampede = stampede;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> createCache(n, remoteCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    private TwoTierCache createCache(String name, Cache remoteCache) {
+        long ttlNanos = properties.ttl().toNanos();
+        com.github.benmanes.caffeine.cache.Cache<String, TwoTierCache.LocalEntry> local = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(Expiry.<String, TwoTierCache.LocalEntry>writing(
+                        (key, entry) -> Duration.ofNanos(JitteredTtlFunction.jittered(ttlNanos, stampede.ttlJitter()))))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "local"));
+        return new TwoTierCache(name, local, remoteCache, invalidationPublisher, loadCoordinator, stampede, meterRegistry);
+    }
+}
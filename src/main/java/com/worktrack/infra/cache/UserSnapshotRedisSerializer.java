@@ -0,0 +1,131 @@
+package com.worktrack.infra.cache;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.service.user.UserSnapshot;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compact binary codec for {@link UserSnapshot} cache values.
+ * <p>
+ * Layout: {@code format version (1 byte) | field count (1 byte) | fields in declaration order}.
+ * Fields may only be appended: a reader decodes the fields it knows and ignores trailing ones,
+ * and defaults fields missing from older payloads. Incompatible changes bump {@link #FORMAT_VERSION};
+ * payloads with an unknown version (including JSON written by earlier releases) fail to decode,
+ * which the cache error handler treats as a miss.
+ */
+public class UserSnapshotRedisSerializer implements RedisSerializer<UserSnapshot> {
+
+    static final byte FORMAT_VERSION = 1;
+    private static final int FIELD_COUNT = 8;
+
+    private final DistributionSummary size;
+    private final Timer encodeTimer;
+    private final Timer decodeTimer;
+
+    public UserSnapshotRedisSerializer(MeterRegistry meterRegistry, String cacheName) {
+        this.size = DistributionSummary.builder("cache.serializer.size")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("cache.serializer.encode").tag("cache", cacheName).register(meterRegistry);
+        this.decodeTimer = Timer.builder("cache.serializer.decode").tag("cache", cacheName).register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(UserSnapshot snapshot) throws SerializationException {
+        if (snapshot == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            var bytes = new ByteArrayOutputStream(96);
+            var out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(FIELD_COUNT);
+            writeNullableLong(out, snapshot.id());
+            writeNullableString(out, snapshot.username());
+            writeNullableString(out, snapshot.email());
+            writeNullableString(out, snapshot.fullName());
+            writeNullableString(out, snapshot.role() != null ? snapshot.role().name() : null);
+            out.writeInt(snapshot.tokenVersion());
+            writeNullableString(out, snapshot.createdBy());
+            writeNullableString(out, snapshot.updatedBy());
+            byte[] result = bytes.toByteArray();
+            size.record(result.length);
+            return result;
+        } catch (IOException ex) {
+            throw new SerializationException("Cannot serialize user snapshot", ex);
+        } finally {
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public UserSnapshot deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            var in = new DataInputStream(new ByteArrayInputStream(bytes));
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new SerializationException("Unsupported user snapshot format version " + version);
+            }
+            int fields = in.readUnsignedByte();
+            Long id = fields > 0 ? readNullableLong(in) : null;
+            String username = fields > 1 ? readNullableString(in) : null;
+            String email = fields > 2 ? readNullableString(in) : null;
+            String fullName = fields > 3 ? readNullableString(in) : null;
+            String role = fields > 4 ? readNullableString(in) : null;
+            int tokenVersion = fields > 5 ? in.readInt() : 0;
+            String createdBy = fields > 6 ? readNullableString(in) : null;
+            String updatedBy = fields > 7 ? readNullableString(in) : null;
+            return new UserSnapshot(id, username, email, fullName,
+                    role != null ? Role.valueOf(role) : null,
+                    tokenVersion, createdBy, updatedBy);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new SerializationException("Cannot deserialize user snapshot", ex);
+        } finally {
+            decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return UserSnapshot.class;
+    }
+
+    private static void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
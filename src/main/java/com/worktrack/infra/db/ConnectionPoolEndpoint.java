@@ -0,0 +1,31 @@
+package com.worktrack.infra.db;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/dbpool}: the current pool size recommendation and connection usage per endpoint.
+ */
+@Endpoint(id = "dbpool")
+public class ConnectionPoolEndpoint {
+
+    public record ConnectionPoolReport(PoolSizeAdvisor.Recommendation recommendation,
+                                       int inUse,
+                                       List<ConnectionUsageRecorder.EndpointUsage> endpoints) {
+    }
+
+    private final PoolSizeAdvisor advisor;
+    private final ConnectionUsageRecorder recorder;
+
+    public ConnectionPoolEndpoint(PoolSizeAdvisor advisor, ConnectionUsageRecorder recorder) {
+        this.advisor = advisor;
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public ConnectionPoolReport report() {
+        return new ConnectionPoolReport(advisor.current(), recorder.inUse(), recorder.endpointUsage());
+    }
+}
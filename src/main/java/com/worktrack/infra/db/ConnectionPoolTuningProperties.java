@@ -0,0 +1,33 @@
+package com.worktrack.infra.db;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Connection usage recording and pool size recommendation.
+ *
+ * @param apply                 resize the running pool to the recommendation through the Hikari MXBean;
+ *                              otherwise it is only reported
+ * @param minSize               smallest size ever recommended
+ * @param maxSize               largest size ever recommended
+ * @param headroom              factor applied on top of the observed peak
+ * @param maxStep               most connections added or removed per evaluation when applying
+ * @param evaluationInterval    length of one usage window
+ * @param history               windows the recommendation looks back over
+ * @param slowAcquireThreshold  acquire time from which a caller counts as having waited for the pool
+ */
+@ConfigurationProperties(prefix = "db.pool.tuning")
+public record ConnectionPoolTuningProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("false") boolean apply,
+        @DefaultValue("4") int minSize,
+        @DefaultValue("50") int maxSize,
+        @DefaultValue("1.25") double headroom,
+        @DefaultValue("10") int maxStep,
+        @DefaultValue("PT1M") Duration evaluationInterval,
+        @DefaultValue("15") int history,
+        @DefaultValue("5ms") Duration slowAcquireThreshold
+) {
+}
@@ -0,0 +1,190 @@
+package com.worktrack.infra.db;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Records, per endpoint, how long callers waited for a pooled connection, how long they held it and
+ * how many connections were in use when they got it. Endpoints are the matched request mapping;
+ * connections taken before a handler is chosen (security filters) are {@code unmapped} and those
+ * taken outside a request (scheduled jobs, {@code @Async}) are {@code background}.
+ * <p>
+ * Besides the meters it keeps totals for the current window, which {@link PoolSizeAdvisor} drains.
+ */
+public class ConnectionUsageRecorder implements MeterBinder {
+
+    static final String BACKGROUND = "background";
+    static final String UNMAPPED = "unmapped";
+
+    /**
+     * @param holdNanos total time connections released in the window were held
+     * @param peakInUse most connections in use at once
+     */
+    public record Window(long durationNanos, long acquisitions, long holdNanos, int peakInUse,
+                         long slowAcquisitions, long maxAcquireNanos) {
+
+        /** Average number of connections in use over the window (Little's law). */
+        public double averageInUse() {
+            return (durationNanos > 0) ? (double) holdNanos / durationNanos : 0;
+        }
+    }
+
+    public record EndpointUsage(String endpoint, long acquisitions, double meanAcquireMillis, double maxAcquireMillis,
+                                double meanHoldMillis, double maxHoldMillis) {
+    }
+
+    private record EndpointMeters(Timer acquire, Timer hold, DistributionSummary inUse) {
+    }
+
+    /**
+     * One checked-out connection; {@link #release()} records the hold time once.
+     */
+    public final class Lease {
+        private final EndpointMeters meters;
+        private final long acquiredAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(EndpointMeters meters, long acquiredAt) {
+            this.meters = meters;
+            this.acquiredAt = acquiredAt;
+        }
+
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            long held = clock.getAsLong() - acquiredAt;
+            inUse.decrementAndGet();
+            windowHoldNanos.add(held);
+            if (meters != null) {
+                meters.hold().record(held, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private final long slowAcquireNanos;
+    private final LongSupplier clock;
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger windowPeakInUse = new AtomicInteger();
+    private final LongAdder windowAcquisitions = new LongAdder();
+    private final LongAdder windowHoldNanos = new LongAdder();
+    private final LongAdder windowSlowAcquisitions = new LongAdder();
+    private final LongAccumulator windowMaxAcquireNanos = new LongAccumulator(Math::max, 0);
+    private final Map<String, EndpointMeters> meters = new ConcurrentHashMap<>();
+    private volatile long windowStart;
+    private volatile MeterRegistry meterRegistry;
+
+    public ConnectionUsageRecorder(long slowAcquireNanos, LongSupplier clock) {
+        this.slowAcquireNanos = slowAcquireNanos;
+        this.clock = clock;
+        this.windowStart = clock.getAsLong();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+    }
+
+    /**
+     * @param acquireNanos time {@code getConnection()} took
+     */
+    public Lease acquired(long acquireNanos) {
+        int current = inUse.incrementAndGet();
+        windowPeakInUse.accumulateAndGet(current, Math::max);
+        windowAcquisitions.increment();
+        windowMaxAcquireNanos.accumulate(acquireNanos);
+        if (acquireNanos >= slowAcquireNanos) {
+            windowSlowAcquisitions.increment();
+        }
+        EndpointMeters endpointMeters = meters(currentEndpoint());
+        if (endpointMeters != null) {
+            endpointMeters.acquire().record(acquireNanos, TimeUnit.NANOSECONDS);
+            endpointMeters.inUse().record(current);
+        }
+        return new Lease(endpointMeters, clock.getAsLong());
+    }
+
+    public int inUse() {
+        return inUse.get();
+    }
+
+    /**
+     * Closes the current window and starts the next one.
+     */
+    public Window drainWindow() {
+        long now = clock.getAsLong();
+        long duration = now - windowStart;
+        windowStart = now;
+        return new Window(duration,
+                windowAcquisitions.sumThenReset(),
+                windowHoldNanos.sumThenReset(),
+                windowPeakInUse.getAndSet(inUse.get()),
+                windowSlowAcquisitions.sumThenReset(),
+                windowMaxAcquireNanos.getThenReset());
+    }
+
+    /**
+     * @return usage per endpoint since startup, most acquisitions first
+     */
+    public List<EndpointUsage> endpointUsage() {
+        return meters.entrySet().stream()
+                .map(entry -> {
+                    Timer acquire = entry.getValue().acquire();
+                    Timer hold = entry.getValue().hold();
+                    return new EndpointUsage(entry.getKey(), acquire.count(),
+                            acquire.mean(TimeUnit.MILLISECONDS), acquire.max(TimeUnit.MILLISECONDS),
+                            hold.mean(TimeUnit.MILLISECONDS), hold.max(TimeUnit.MILLISECONDS));
+                })
+                .sorted(Comparator.comparingLong(EndpointUsage::acquisitions).reversed())
+                .toList();
+    }
+
+    private EndpointMeters meters(String endpoint) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return null;
+        }
+        return meters.computeIfAbsent(endpoint, e -> new EndpointMeters(
+                Timer.builder("db.connection.acquire")
+                        .description("Time waited for a pooled connection")
+                        .tag("endpoint", e)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                Timer.builder("db.connection.hold")
+                        .description("Time a connection was held before going back to the pool")
+                        .tag("endpoint", e)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                DistributionSummary.builder("db.connection.in.use")
+                        .description("Connections in use, sampled whenever one is acquired")
+                        .tag("endpoint", e)
+                        .publishPercentileHistogram()
+                        .register(registry)));
+    }
+
+    static String currentEndpoint() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return BACKGROUND;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + ((pattern != null) ? pattern : UNMAPPED);
+    }
+}
@@ -0,0 +1,115 @@
+package com.worktrack.infra.db;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Recommends a maximum pool size from the connection usage of the last {@code history} windows: the
+ * peak number of connections in use, plus headroom, within the configured bounds. The mean of the
+ * per-window averages is reported next to it. Callers that waited while every connection was busy
+ * push the recommendation up by {@code max-step} instead.
+ * <p>
+ * With {@code db.pool.tuning.apply} the pool is moved toward the recommendation by at most
+ * {@code max-step} per evaluation. It only shrinks once a full history has been observed, so a
+ * quiet period right after startup does not drain it.
+ */
+public class PoolSizeAdvisor {
+    private static final Logger logger = LoggerFactory.getLogger(PoolSizeAdvisor.class);
+
+    public record Recommendation(Instant evaluatedAt,
+                                 int maximumPoolSize,
+                                 int minimumIdle,
+                                 int recommendedMaximumPoolSize,
+                                 int peakInUse,
+                                 double averageInUse,
+                                 long slowAcquisitions,
+                                 int windows,
+                                 boolean applied,
+                                 String reason) {
+    }
+
+    private final ConnectionUsageRecorder recorder;
+    private final HikariConfigMXBean pool;
+    private final ConnectionPoolTuningProperties properties;
+    private final Clock clock;
+    private final Deque<ConnectionUsageRecorder.Window> history = new ArrayDeque<>();
+    private volatile Recommendation current;
+
+    public PoolSizeAdvisor(ConnectionUsageRecorder recorder, HikariConfigMXBean pool,
+                           ConnectionPoolTuningProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.recorder = recorder;
+        this.pool = pool;
+        this.properties = properties;
+        this.clock = clock;
+        int size = pool.getMaximumPoolSize();
+        this.current = new Recommendation(clock.instant(), size, pool.getMinimumIdle(), size, 0, 0, 0, 0, false,
+                "no usage window completed yet");
+
+        Gauge.builder("db.pool.recommended.size", this, advisor -> advisor.current().recommendedMaximumPoolSize())
+                .description("Maximum pool size recommended from observed connection usage")
+                .register(meterRegistry);
+    }
+
+    public Recommendation current() {
+        return current;
+    }
+
+    @Scheduled(initialDelayString = "${db.pool.tuning.evaluation-interval:PT1M}",
+            fixedDelayString = "${db.pool.tuning.evaluation-interval:PT1M}")
+    public synchronized Recommendation evaluate() {
+        history.addLast(recorder.drainWindow());
+        while (history.size() > properties.history()) {
+            history.removeFirst();
+        }
+
+        int peak = 0;
+        double averageSum = 0;
+        long slow = 0;
+        for (ConnectionUsageRecorder.Window window : history) {
+            peak = Math.max(peak, window.peakInUse());
+            averageSum += window.averageInUse();
+            slow += window.slowAcquisitions();
+        }
+        double average = averageSum / history.size();
+
+        int size = pool.getMaximumPoolSize();
+        // A window's average never exceeds its peak, so the peak alone sizes the pool.
+        int target = (int) Math.ceil(peak * properties.headroom());
+        String reason;
+        if (slow > 0 && peak >= size) {
+            target = Math.max(target, size + properties.maxStep());
+            reason = "%d acquisitions waited with all %d connections in use".formatted(slow, size);
+        } else {
+            reason = "peak %d connections in use (mean %.1f) over %d window(s), plus %.0f%% headroom"
+                    .formatted(peak, average, history.size(), (properties.headroom() - 1) * 100);
+        }
+        int recommended = Math.clamp(target, properties.minSize(), properties.maxSize());
+
+        boolean applied = properties.apply() && resize(size, recommended);
+        current = new Recommendation(clock.instant(), pool.getMaximumPoolSize(), pool.getMinimumIdle(), recommended,
+                peak, average, slow, history.size(), applied, reason);
+        return current;
+    }
+
+    private boolean resize(int size, int recommended) {
+        if (recommended == size || (recommended < size && history.size() < properties.history())) {
+            return false;
+        }
+        int next = size + Math.clamp(recommended - size, -properties.maxStep(), properties.maxStep());
+        if (pool.getMinimumIdle() > next) {
+            pool.setMinimumIdle(next);
+        }
+        pool.setMaximumPoolSize(next);
+        logger.info("Resized connection pool maximumPoolSize {} -> {} (recommended {})", size, next, recommended);
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.worktrack.infra.db;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks reads that must not see a lagging replica: loads that fill a cache or back a security decision,
+ * where a stale row would keep a revoked token or a deleted user working for the cache TTL.
+ * {@link ReadWriteRoutingDataSource} checks the mark when the connection is fetched, so it only steers
+ * transactions that have not touched the database yet. A no-op without a replica.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUIRED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T require(Supplier<T> reads) {
+        if (REQUIRED.get() != null) {
+            return reads.get();
+        }
+        REQUIRED.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            REQUIRED.remove();
+        }
+    }
+
+    static boolean isRequired() {
+        return REQUIRED.get() != null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.worktrack.infra.db;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ * It decides when the connection is actually fetched, so it must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: by then the transaction's read-only flag is known.
+ * <p>
+ * Reads stay on the primary when the replica is lagging ({@link ReplicaLagMonitor}), inside
+ * {@link PrimaryReads#require}, and for the rest of a request once a read-write transaction in it has
+ * committed, so a request reads its own writes.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements MeterBinder {
+
+    static final String PRIMARY_PINNED_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".primaryPinned";
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    enum Reason {
+        WRITE(Route.PRIMARY),
+        NO_TRANSACTION(Route.PRIMARY),
+        PRIMARY_REQUIRED(Route.PRIMARY),
+        READ_AFTER_WRITE(Route.PRIMARY),
+        REPLICA_LAGGING(Route.PRIMARY),
+        READ_ONLY(Route.REPLICA);
+
+        private final Route route;
+
+        Reason(Route route) {
+            this.route = route;
+        }
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Map<Reason, LongAdder> connections = new EnumMap<>(Reason.class);
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        for (Reason reason : Reason.values()) {
+            connections.put(reason, new LongAdder());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        connections.forEach((reason, count) -> FunctionCounter.builder("db.routing.connections", count, LongAdder::sum)
+                .description("Connections handed out per route")
+                .tag("route", reason.route.name().toLowerCase())
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry));
+    }
+
+    public long connectionCount(Route route) {
+        return connections.entrySet().stream()
+                .filter(entry -> entry.getKey().route == route)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    /**
+     * Lookups such as Hikari metrics and pool sizing see the primary.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? (T) this : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    private DataSource target() {
+        Reason reason = reason();
+        connections.get(reason).increment();
+        return (reason.route == Route.REPLICA) ? replica : primary;
+    }
+
+    Reason reason() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Reason.NO_TRANSACTION;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinRequestAfterCommit();
+            return Reason.WRITE;
+        }
+        if (PrimaryReads.isRequired()) {
+            return Reason.PRIMARY_REQUIRED;
+        }
+        if (isRequestPinned()) {
+            return Reason.READ_AFTER_WRITE;
+        }
+        return lagMonitor.isReplicaUsable() ? Reason.READ_ONLY : Reason.REPLICA_LAGGING;
+    }
+
+    private static void pinRequestAfterCommit() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                request.setAttribute(PRIMARY_PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+            }
+        });
+    }
+
+    private static boolean isRequestPinned() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request != null
+                && Boolean.TRUE.equals(request.getAttribute(PRIMARY_PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
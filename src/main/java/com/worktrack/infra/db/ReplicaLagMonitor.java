@@ -0,0 +1,94 @@
+package com.worktrack.infra.db;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Polls the replica's replication status. The replica is usable while its lag is known and within
+ * {@code db.replica.max-lag}; a stopped replication thread, a server that is not a replica at all,
+ * a failed query or no check yet all count as unusable, so reads fall back to the primary.
+ */
+public class ReplicaLagMonitor implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+    private static final String LEGACY_LAG_COLUMN = "Seconds_Behind_Master";
+    private static final long UNKNOWN = -1;
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private volatile long lagSeconds = UNKNOWN;
+    private volatile boolean usable;
+    private final AtomicBoolean notReplicaReported = new AtomicBoolean();
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica in seconds, -1 when unknown")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${db.replica.lag-check-interval:PT5S}")
+    public void check() {
+        long lag;
+        try {
+            lag = replica.query(lagQuery, this::lagOf);
+        } catch (RuntimeException ex) {
+            logger.debug("Replica lag check failed. cause={}", ex.getMessage());
+            lag = UNKNOWN;
+        }
+        boolean nowUsable = lag != UNKNOWN && lag <= maxLagSeconds;
+        if (nowUsable != usable) {
+            logger.warn("Read replica {} (lag={}s, max={}s)", nowUsable ? "back in use" : "bypassed", lag, maxLagSeconds);
+        }
+        lagSeconds = lag;
+        usable = nowUsable;
+    }
+
+    private long lagOf(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            // No replication status: the replica URL points at a primary or a standalone server.
+            if (notReplicaReported.compareAndSet(false, true)) {
+                logger.warn("Read replica reports no replication status; it is not a replica, reads stay on the primary");
+            }
+            return UNKNOWN;
+        }
+        String column = hasColumn(rs, LAG_COLUMN) ? LAG_COLUMN : LEGACY_LAG_COLUMN;
+        long lag = rs.getLong(column);
+        // NULL: the replication SQL thread is not running, the lag is unknown.
+        return rs.wasNull() ? UNKNOWN : lag;
+    }
+
+    private static boolean hasColumn(ResultSet rs, String column) throws SQLException {
+        var metaData = rs.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package com.worktrack.infra.db;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read replica for read-only transactions. Pool settings go under {@code db.replica.hikari}.
+ *
+ * @param username         defaults to the primary's
+ * @param password         defaults to the primary's
+ * @param maxLag           replication lag from which reads go to the primary instead
+ * @param lagCheckInterval how often the lag is queried
+ * @param lagQuery         statement reporting replication status; no row means the instance is not
+ *                         replicating and counts as current
+ */
+@ConfigurationProperties(prefix = "db.replica")
+public record ReplicaRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("2s") Duration maxLag,
+        @DefaultValue("PT5S") Duration lagCheckInterval,
+        @DefaultValue("SHOW REPLICA STATUS") String lagQuery
+) {
+}
@@ -0,0 +1,68 @@
+package com.worktrack.infra.db;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Times {@code getConnection()} and hands out connections that report their hold time to
+ * {@link ConnectionUsageRecorder} when closed, i.e. returned to the pool.
+ */
+public class UsageRecordingDataSource extends DelegatingDataSource {
+
+    private final ConnectionUsageRecorder recorder;
+
+    public UsageRecordingDataSource(DataSource target, ConnectionUsageRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection();
+        return leased(connection, System.nanoTime() - start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection(username, password);
+        return leased(connection, System.nanoTime() - start);
+    }
+
+    private Connection leased(Connection connection, long acquireNanos) {
+        ConnectionUsageRecorder.Lease lease = recorder.acquired(acquireNanos);
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new LeasedConnection(connection, lease));
+    }
+
+    private record LeasedConnection(Connection target, ConnectionUsageRecorder.Lease lease) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> lease.release();
+                default -> {
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.worktrack.infra.limit;
+
+import com.worktrack.exception.ServiceOverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Admits a request only while its lane has a free permit and rejects it with
+ * {@link ServiceOverloadedException} otherwise, before any database work starts. Login runs in its own
+ * fixed-size priority lane so users can still sign in while the standard lane is shedding load;
+ * actuator endpoints are not routed through here at all.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String ATTR_PERMIT = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final GradientConcurrencyLimiter standardLane;
+    private final GradientConcurrencyLimiter priorityLane;
+    private final List<PathPattern> priorityPaths;
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitInterceptor(GradientConcurrencyLimiter standardLane,
+                                       GradientConcurrencyLimiter priorityLane,
+                                       List<String> priorityPaths,
+                                       Duration retryAfter) {
+        this.standardLane = standardLane;
+        this.priorityLane = priorityLane;
+        this.priorityPaths = priorityPaths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        GradientConcurrencyLimiter lane = isPriority(request) ? priorityLane : standardLane;
+        GradientConcurrencyLimiter.Permit permit = lane.tryAcquire()
+                .orElseThrow(() -> new ServiceOverloadedException(retryAfter));
+        request.setAttribute(ATTR_PERMIT, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(ATTR_PERMIT) instanceof GradientConcurrencyLimiter.Permit permit)) {
+            return;
+        }
+        int status = response.getStatus();
+        if (status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            // Lock and query timeouts are mapped to 503: the database is saturated.
+            permit.dropped();
+        } else if (ex != null || status >= 500) {
+            permit.ignore();
+        } else {
+            permit.success();
+        }
+    }
+
+    private boolean isPriority(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        return priorityPaths.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+}
@@ -0,0 +1,37 @@
+package com.worktrack.infra.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-process concurrency limits for API requests.
+ *
+ * @param initialLimit  concurrent requests allowed in the standard lane before any latency is observed
+ * @param minLimit      floor of the standard lane limit
+ * @param maxLimit      ceiling of the standard lane limit; keep it below the connection pool size so
+ *                      requests queue here, where they can be shed, and not on the pool
+ * @param tolerance     how much the average latency of a window may exceed the long-term average
+ *                      before the limit shrinks
+ * @param smoothing     share of each newly computed limit that is applied
+ * @param sampleWindow  shortest time over which latencies are averaged before the limit changes
+ * @param priorityLimit fixed concurrency of the priority lane
+ * @param priorityPaths request paths served by the priority lane, as path patterns
+ * @param retryAfter    value of the {@code Retry-After} header on rejected requests
+ */
+@ConfigurationProperties(prefix = "concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("180") int maxLimit,
+        @DefaultValue("2.0") double tolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("500ms") Duration sampleWindow,
+        @DefaultValue("10") int priorityLimit,
+        @DefaultValue("/layered/api/v1/auth/login") List<String> priorityPaths,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
@@ -0,0 +1,187 @@
+package com.worktrack.infra.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that sizes itself from observed latency. The limit grows while the average
+ * latency of recent requests stays within {@code tolerance} of the long-term average and shrinks
+ * in proportion once requests start to queue (gradient). A request that failed because the backend
+ * was overloaded cuts the limit multiplicatively (AIMD).
+ * <p>
+ * With {@code minLimit == maxLimit} the limit is fixed, which is how the priority lane is built.
+ */
+public class GradientConcurrencyLimiter {
+
+    /** Multiplicative decrease after an overload signal. */
+    static final double BACKOFF_RATIO = 0.9;
+    /** Windows the long-term latency average spans; it follows slow drift, not a burst. */
+    static final int LONG_WINDOW = 600;
+    static final int MIN_WINDOW_SAMPLES = 10;
+
+    /**
+     * Held for one request; exactly one of the completion methods counts, later calls are ignored.
+     */
+    public final class Permit {
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /** The request completed and its latency is a valid sample. */
+        public void success() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                onSample(clock.getAsLong() - startNanos, false);
+            }
+        }
+
+        /** The request failed because a backend was overloaded or timed out. */
+        public void dropped() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                onSample(0, true);
+            }
+        }
+
+        /** The request failed for a reason that says nothing about load. */
+        public void ignore() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long sampleWindowNanos;
+    private final LongSupplier clock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejections;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private volatile int windowMaxInFlight;
+    // Guarded by lock.
+    private double longRtt;
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private boolean windowDropped;
+
+    public GradientConcurrencyLimiter(String lane, int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                      double smoothing, long sampleWindowNanos, MeterRegistry meterRegistry,
+                                      LongSupplier clock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.sampleWindowNanos = sampleWindowNanos;
+        this.clock = clock;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.windowStart = clock.getAsLong();
+
+        Gauge.builder("concurrency.limit", this, GradientConcurrencyLimiter::getLimit)
+                .description("Concurrent requests currently allowed")
+                .tag("lane", lane)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", this, GradientConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a permit")
+                .tag("lane", lane)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("concurrency.rejections")
+                .description("Requests shed because the limit was reached")
+                .tag("lane", lane)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return a permit to release when the request completes, or empty when the limit is reached
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejections.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                trackInFlight(current + 1);
+                return Optional.of(new Permit(clock.getAsLong()));
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void trackInFlight(int current) {
+        // Only a hint for the app-limited check; a lost update there is harmless.
+        if (current > windowMaxInFlight) {
+            windowMaxInFlight = current;
+        }
+    }
+
+    private void onSample(long rttNanos, boolean dropped) {
+        lock.lock();
+        try {
+            if (dropped) {
+                windowDropped = true;
+            } else {
+                windowRttSum += rttNanos;
+                windowSamples++;
+            }
+            long now = clock.getAsLong();
+            if (now - windowStart < sampleWindowNanos || (!windowDropped && windowSamples < MIN_WINDOW_SAMPLES)) {
+                return;
+            }
+            updateLimit();
+            windowStart = now;
+            windowRttSum = 0;
+            windowSamples = 0;
+            windowMaxInFlight = inFlight.get();
+            windowDropped = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateLimit() {
+        if (windowDropped) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowSamples;
+        longRtt = (longRtt == 0) ? shortRtt : longRtt + (shortRtt - longRtt) / LONG_WINDOW;
+        if (longRtt / shortRtt > 2) {
+            // Latency has dropped well below the long-term average: let the average catch up faster.
+            longRtt *= 0.95;
+        }
+        if (windowMaxInFlight < limit / 2) {
+            // The limit was never approached, so this window says nothing about it.
+            return;
+        }
+        double gradient = Math.clamp(tolerance * longRtt / shortRtt, 0.5, 1.0);
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.clamp(limit * (1 - smoothing) + target * smoothing, minLimit, maxLimit);
+    }
+}
@@ -4,6 +4,7 @@ public final class SpanNames {
     public static final String AUTH_LOGIN = "Auth.login";
     public static final String PROJECT_CREATE = "Project.create";
     public static final String TASK_CREATE = "Task.create";
+    public static final String TASK_CREATE_BATCH = "Task.createBatch";
 
     private SpanNames() {}
 }
\ No newline at end of file
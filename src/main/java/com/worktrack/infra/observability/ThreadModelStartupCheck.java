@@ -0,0 +1,139 @@
+package com.worktrack.infra.observability;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.eclipse.jetty.util.VirtualThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.boot.web.embedded.jetty.JettyWebServer;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Logs which thread model Jetty and {@code applicationTaskExecutor} actually ended up on, and warns
+ * when the virtual-thread mode is requested but not in effect or runs where pinning is likely to hurt.
+ */
+@Component
+public class ThreadModelStartupCheck {
+    private static final Logger logger = LoggerFactory.getLogger(ThreadModelStartupCheck.class);
+
+    /** First release where blocking inside {@code synchronized} no longer pins the carrier (JEP 491). */
+    static final int UNPINNED_MONITORS_FEATURE = 24;
+
+    private final Environment environment;
+    private final ObjectProvider<AsyncTaskExecutor> applicationTaskExecutor;
+    private final ObjectProvider<DataSource> dataSource;
+
+    public ThreadModelStartupCheck(Environment environment,
+                                   @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                   ObjectProvider<AsyncTaskExecutor> applicationTaskExecutor,
+                                   ObjectProvider<DataSource> dataSource) {
+        this.environment = environment;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check(ApplicationReadyEvent event) {
+        boolean requested = Threading.VIRTUAL.isActive(environment);
+        Boolean jettyVirtual = jettyUsesVirtualThreads(event.getApplicationContext());
+        Boolean asyncVirtual = asyncUsesVirtualThreads();
+        int jdk = Runtime.version().feature();
+        int carriers = carrierParallelism();
+        Integer dbPool = databasePoolSize();
+
+        logger.info("Thread model: virtualRequested={} jettyVirtual={} asyncVirtual={} jdk={} carriers={} dbPool={}",
+                requested, describe(jettyVirtual), describe(asyncVirtual), jdk, carriers, describe(dbPool));
+        if (!requested) {
+            return;
+        }
+        if (Boolean.FALSE.equals(jettyVirtual) || Boolean.FALSE.equals(asyncVirtual)) {
+            logger.warn("spring.threads.virtual.enabled is set but jettyVirtual={} asyncVirtual={}; "
+                    + "a custom thread pool or executor bean is overriding it", jettyVirtual, asyncVirtual);
+        }
+        if (jdk < UNPINNED_MONITORS_FEATURE) {
+            logger.warn("JDK {} pins a virtual thread to its carrier while it blocks inside synchronized; "
+                    + "see the threads.virtual.pinning metric and the pinning report for the sites", jdk);
+            if (carriers < 2) {
+                logger.warn("Only {} carrier thread: one pinned request stalls every other request. "
+                        + "Raise the CPU limit or set -Djdk.virtualThreadScheduler.parallelism", carriers);
+            }
+        }
+        if (dbPool != null) {
+            logger.info("Requests that need the database are bounded by the pool of {} connections, "
+                    + "not by a request thread pool", dbPool);
+        }
+    }
+
+    private static Boolean jettyUsesVirtualThreads(ApplicationContext context) {
+        if (!(context instanceof WebServerApplicationContext webContext)) {
+            return null;
+        }
+        WebServer webServer = webContext.getWebServer();
+        if (!(webServer instanceof JettyWebServer jetty)) {
+            return null;
+        }
+        return VirtualThreads.getVirtualThreadsExecutor(jetty.getServer().getThreadPool()) != null;
+    }
+
+    private Boolean asyncUsesVirtualThreads() {
+        AsyncTaskExecutor executor = applicationTaskExecutor.getIfAvailable();
+        if (executor == null) {
+            return null;
+        }
+        try {
+            return executor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException ex) {
+            logger.warn("Could not probe the application task executor. cause={}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private Integer databasePoolSize() {
+        DataSource source = dataSource.getIfAvailable();
+        if (source == null) {
+            return null;
+        }
+        try {
+            return source.isWrapperFor(HikariDataSource.class)
+                    ? source.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    static int carrierParallelism() {
+        String configured = System.getProperty("jdk.virtualThreadScheduler.parallelism");
+        if (configured != null) {
+            try {
+                return Integer.parseInt(configured.trim());
+            } catch (NumberFormatException ignored) {
+                // The JDK falls back to the processor count as well.
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static String describe(Object value) {
+        return (value != null) ? value.toString() : "n/a";
+    }
+}
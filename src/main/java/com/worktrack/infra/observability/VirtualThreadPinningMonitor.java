@@ -0,0 +1,159 @@
+package com.worktrack.infra.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} events from an in-process JFR recording and attributes
+ * each pin to the first frame outside the JDK, which is the library or application code that
+ * blocked while holding a monitor (the MySQL driver, Hibernate, logback appenders, ...).
+ * <p>
+ * Every pin is recorded on the {@code threads.virtual.pinning} timer tagged with its site. The sites
+ * seen since the previous report are logged every {@code threads.pinning.report-interval} and once
+ * more on shutdown.
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String UNKNOWN_SITE = "unknown";
+    static final String OTHER_SITE = "other";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    public record PinningSite(String site, long count, Duration total, Duration max) {
+    }
+
+    private static final class SiteStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        PinningSite toSite(String site) {
+            return new PinningSite(site, count.sum(), Duration.ofNanos(totalNanos.sum()), Duration.ofNanos(maxNanos.get()));
+        }
+    }
+
+    private final VirtualThreadPinningProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SiteStats> sinceLastReport = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadPinningProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        var recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(properties.threshold()).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        logger.info("Virtual thread pinning monitor started. threshold={}", properties.threshold());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream == null) {
+            return;
+        }
+        stream.close();
+        stream = null;
+        report();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        String site = pinningSite(event.getStackTrace());
+        long nanos = event.getDuration().toNanos();
+        sinceLastReport.computeIfAbsent(site, s -> new SiteStats()).record(nanos);
+        timer(site).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return sites pinned since the previous report, longest total pinned time first
+     */
+    public List<PinningSite> snapshot() {
+        return sinceLastReport.entrySet().stream()
+                .map(entry -> entry.getValue().toSite(entry.getKey()))
+                .sorted(Comparator.comparing(PinningSite::total).reversed())
+                .toList();
+    }
+
+    @Scheduled(initialDelayString = "${threads.pinning.report-interval:PT5M}",
+            fixedDelayString = "${threads.pinning.report-interval:PT5M}")
+    public void report() {
+        List<PinningSite> sites = snapshot();
+        sites.forEach(site -> sinceLastReport.remove(site.site()));
+        if (sites.isEmpty()) {
+            return;
+        }
+        var lines = new StringBuilder();
+        sites.stream().limit(properties.reportedSites()).forEach(site -> lines.append(System.lineSeparator())
+                .append("  ").append(site.site())
+                .append(" count=").append(site.count())
+                .append(" total=").append(site.total().toMillis()).append("ms")
+                .append(" max=").append(site.max().toMillis()).append("ms"));
+        logger.warn("Virtual threads pinned their carrier at {} site(s) since the last report:{}", sites.size(), lines);
+    }
+
+    private Timer timer(String site) {
+        Timer timer = timers.get(site);
+        if (timer != null) {
+            return timer;
+        }
+        String tag = (timers.size() < properties.maxSites()) ? site : OTHER_SITE;
+        return timers.computeIfAbsent(tag, t -> Timer.builder("threads.virtual.pinning")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("site", t)
+                .register(meterRegistry));
+    }
+
+    static String pinningSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return UNKNOWN_SITE;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return UNKNOWN_SITE;
+    }
+}
@@ -0,0 +1,25 @@
+package com.worktrack.infra.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * JFR based reporting of virtual threads pinned to their carrier, active only when
+ * {@code spring.threads.virtual.enabled} is set.
+ *
+ * @param threshold      shortest pin that is recorded; JFR's own default is 20ms
+ * @param reportInterval how often the sites pinned since the previous report are logged
+ * @param reportedSites  sites listed per report, longest total pinned time first
+ * @param maxSites       distinct sites tagged on the metric, later ones are counted as {@code other}
+ */
+@ConfigurationProperties(prefix = "threads.pinning")
+public record VirtualThreadPinningProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20ms") Duration threshold,
+        @DefaultValue("PT5M") Duration reportInterval,
+        @DefaultValue("10") int reportedSites,
+        @DefaultValue("100") int maxSites
+) {
+}
@@ -1,13 +1,15 @@
 package com.worktrack.mapper;
 
 import com.worktrack.dto.response.project.ProjectResponse;
+import com.worktrack.dto.response.project.ProjectTaskStatsResponse;
 import com.worktrack.dto.response.user.UserResponse;
 import com.worktrack.entity.project.Project;
+import com.worktrack.repo.projection.ProjectView;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ProjectResponseMapper {
-    public ProjectResponse toDto(Project project, UserResponse owner) {
+    public ProjectResponse toDto(Project project, UserResponse owner, ProjectTaskStatsResponse taskStats) {
         return new ProjectResponse(
                 project.getId(),
                 project.getName(),
@@ -17,11 +19,27 @@ public class ProjectResponseMapper {
                 project.getVersion(),
                 project.getStatus(),
                 project.getCreatedBy(),
-                project.getUpdatedBy()
+                project.getUpdatedBy(),
+                taskStats
+        );
+    }
+
+    public ProjectResponse toDto(ProjectView project, UserResponse owner, ProjectTaskStatsResponse taskStats) {
+        return new ProjectResponse(
+                project.id(),
+                project.name(),
+                project.description(),
+                owner,
+                project.createdAt(),
+                project.version(),
+                project.status(),
+                project.createdBy(),
+                project.updatedBy(),
+                taskStats
         );
     }
 
     public ProjectResponse toDto(Project project) {
-        return toDto(project, null);
+        return toDto(project, null, null);
     }
 }
@@ -2,6 +2,8 @@ package com.worktrack.mapper;
 
 import com.worktrack.dto.response.user.UserResponse;
 import com.worktrack.entity.auth.User;
+import com.worktrack.repo.projection.UserView;
+import com.worktrack.service.user.UserSnapshot;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,4 +19,28 @@ public class UserResponseMapper {
                 user.getUpdatedBy()
         );
     }
+
+    public UserResponse toDto(UserView view) {
+        return new UserResponse(
+                view.id(),
+                view.username(),
+                view.email(),
+                view.fullName(),
+                view.role().name(),
+                view.createdBy(),
+                view.updatedBy()
+        );
+    }
+
+    public UserResponse toDto(UserSnapshot snapshot) {
+        return new UserResponse(
+                snapshot.id(),
+                snapshot.username(),
+                snapshot.email(),
+                snapshot.fullName(),
+                snapshot.role().name(),
+                snapshot.createdBy(),
+                snapshot.updatedBy()
+        );
+    }
 }
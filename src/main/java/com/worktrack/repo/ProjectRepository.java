@@ -1,58 +1,121 @@
 package com.worktrack.repo;
 
+import com.worktrack.common.pagination.KeysetCursor;
 import com.worktrack.entity.base.Status;
 import com.worktrack.entity.project.Project;
+import com.worktrack.repo.projection.ProjectView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Queries carry no status predicate: soft-deleted projects are removed by the {@code NOT_DELETED}
+ * filter. Reads that must see them go through {@code SoftDeleteFilter.includingDeleted}, as do the
+ * listings that must not lose a soft-deleted owner to the filter and spell out their own predicate.
+ */
 @Repository
+@Transactional(readOnly = true)
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     @Query("""
-                SELECT p
+                SELECT new com.worktrack.repo.projection.ProjectView(
+                    p.id, p.name, p.description, p.createdAt, p.version, p.status, p.createdBy, p.updatedBy,
+                    o.id, o.username, o.email, o.fullName, o.role, o.createdBy, o.updatedBy)
+                FROM Project p
+                JOIN p.owner o
+                WHERE o.id = :ownerId
+            """)
+    List<ProjectView> findAllActiveViewsByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * Run through {@code SoftDeleteFilter.includingDeleted}: the project predicate is spelled out so the
+     * filter does not reach the owner join, and a project of a soft-deleted owner keeps its owner columns.
+     */
+    @Query(value = """
+                SELECT new com.worktrack.repo.projection.ProjectView(
+                    p.id, p.name, p.description, p.createdAt, p.version, p.status, p.createdBy, p.updatedBy,
+                    o.id, o.username, o.email, o.fullName, o.role, o.createdBy, o.updatedBy)
+                FROM Project p
+                LEFT JOIN p.owner o
+                WHERE p.status <> :deletedStatus
+            """,
+            countQuery = "SELECT COUNT(p) FROM Project p WHERE p.status <> :deletedStatus")
+    Page<ProjectView> findAllViewsByStatusNot(@Param("deletedStatus") Status deletedStatus, Pageable pageable);
+
+    /**
+     * Slice counterpart of {@link #findAllViewsByStatusNot}: same row shape, no count query.
+     */
+    @Query("""
+                SELECT new com.worktrack.repo.projection.ProjectView(
+                    p.id, p.name, p.description, p.createdAt, p.version, p.status, p.createdBy, p.updatedBy,
+                    o.id, o.username, o.email, o.fullName, o.role, o.createdBy, o.updatedBy)
                 FROM Project p
-                JOIN FETCH p.owner
-                WHERE p.owner.id = :ownerId
-                  AND p.status <> :deletedStatus
+                LEFT JOIN p.owner o
+                WHERE p.status <> :deletedStatus
             """)
-    List<Project> findAllByOwnerIdWithOwner(@Param("ownerId") Long ownerId, @Param("deletedStatus") Status deletedStatus);
+    Slice<ProjectView> findViewSliceByStatusNot(@Param("deletedStatus") Status deletedStatus, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"owner"})
-    Page<Project> findByStatus(Status status, Pageable pageable);
+    @Query("SELECT COUNT(p) FROM Project p")
+    long countActive();
 
-    Optional<Project> findByIdAndStatusNot(Long id, Status status);
+    /**
+     * Counts every status, deleted included, when run through {@code SoftDeleteFilter.includingDeleted}.
+     */
+    @Query("SELECT p.status, COUNT(p) FROM Project p GROUP BY p.status")
+    List<Object[]> countGroupedByStatus();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findActiveById(@Param("id") Long id);
 
     @Query("""
                 SELECT p
                 FROM Project p
-                LEFT JOIN FETCH p.owner o
-                WHERE p.id = :id
-                  AND p.status <> :deletedStatus
+                LEFT JOIN FETCH p.owner
+                ORDER BY p.createdAt DESC, p.id DESC
             """)
-    Optional<Project> findByIdWithOwner(@Param("id") Long id, @Param("deletedStatus") Status deletedStatus);
+    List<Project> findFirstKeysetPage(Pageable limit);
 
-    default List<Project> findAllActiveByOwnerIdWithOwner(Long ownerId) {
-        return findAllByOwnerIdWithOwner(ownerId, Status.DELETED);
-    }
-
-    default Page<Project> findAllActive(Pageable pageable) {
-        return findByStatus(Status.ACTIVE, pageable);
-    }
+    @Query("""
+                SELECT p
+                FROM Project p
+                LEFT JOIN FETCH p.owner
+                WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)
+                ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Project> findKeysetPageAfter(@Param("createdAt") Instant createdAt,
+                                      @Param("id") Long id,
+                                      Pageable limit);
 
-    default Optional<Project> findActiveById(Long id) {
-        return findByIdAndStatusNot(id, Status.DELETED);
-    }
+    @Query("""
+                SELECT p
+                FROM Project p
+                LEFT JOIN FETCH p.owner o
+                WHERE p.id = :id
+            """)
+    Optional<Project> findActiveByIdWithOwner(@Param("id") Long id);
 
-    default Optional<Project> findActiveByIdWithOwner(Long id) {
-        return findByIdWithOwner(id, Status.DELETED);
+    /**
+     * Seeks past {@code after} on {@code idx_project_status_created_at_id} instead of skipping rows,
+     * and runs no count query; the filter's {@code status IN (...)} is the leading equality.
+     */
+    default List<Project> findActiveAfter(KeysetCursor after, int limit) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        return (after == null)
+                ? findFirstKeysetPage(firstRows)
+                : findKeysetPageAfter(after.createdAt(), after.id(), firstRows);
     }
 }
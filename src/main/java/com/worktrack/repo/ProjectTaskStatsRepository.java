@@ -0,0 +1,66 @@
+package com.worktrack.repo;
+
+import com.worktrack.entity.project.ProjectTaskStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, Long> {
+
+    /**
+     * Applies the deltas in place, so concurrent task writes on the project serialize on the row lock
+     * instead of overwriting each other. Returns 0 when the project has no stats row yet.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+                UPDATE ProjectTaskStats s
+                SET s.todoCount = s.todoCount + :todo,
+                    s.inProgressCount = s.inProgressCount + :inProgress,
+                    s.doneCount = s.doneCount + :done
+                WHERE s.projectId = :projectId
+            """)
+    int increment(@Param("projectId") Long projectId,
+                  @Param("todo") long todo,
+                  @Param("inProgress") long inProgress,
+                  @Param("done") long done);
+
+    /**
+     * Creates the missing row from a recount, or applies the deltas when a concurrent first writer
+     * created it in the meantime, instead of failing on the duplicate key.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_task_stats"))
+    @Query(value = """
+                INSERT INTO project_task_stats (project_id, todo_count, in_progress_count, done_count)
+                VALUES (:projectId, :todoCount, :inProgressCount, :doneCount)
+                ON DUPLICATE KEY UPDATE
+                    todo_count = todo_count + :todo,
+                    in_progress_count = in_progress_count + :inProgress,
+                    done_count = done_count + :done
+            """, nativeQuery = true)
+    int insertOrIncrement(@Param("projectId") Long projectId,
+                          @Param("todoCount") long todoCount,
+                          @Param("inProgressCount") long inProgressCount,
+                          @Param("doneCount") long doneCount,
+                          @Param("todo") long todo,
+                          @Param("inProgress") long inProgress,
+                          @Param("done") long done);
+
+    /**
+     * Creates the zeroed row of a new project in one INSERT; {@code save} would merge the assigned id
+     * and SELECT it first.
+     */
+    default void insertEmpty(Long projectId) {
+        insertOrIncrement(projectId, 0, 0, 0, 0, 0, 0);
+    }
+}
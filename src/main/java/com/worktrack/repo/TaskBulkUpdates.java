@@ -0,0 +1,19 @@
+package com.worktrack.repo;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Set-based task updates that need a statement shape Spring Data query methods cannot express.
+ */
+public interface TaskBulkUpdates {
+
+    /**
+     * Assigns the listed active tasks of the project to {@code assigneeId} in one UPDATE that also bumps
+     * {@code version}. Callers lock the rows first and pass at most one chunk of ids. Returns the affected row count.
+     */
+    @Transactional
+    int reassign(Long projectId, Collection<Long> taskIds, Long assigneeId, Instant now, String actor);
+}
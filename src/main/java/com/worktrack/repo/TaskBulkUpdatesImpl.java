@@ -0,0 +1,42 @@
+package com.worktrack.repo;
+
+import com.worktrack.entity.auth.User;
+import com.worktrack.entity.base.Status;
+import com.worktrack.entity.project.Project_;
+import com.worktrack.entity.project.Task;
+import com.worktrack.entity.project.Task_;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.Instant;
+import java.util.Collection;
+
+class TaskBulkUpdatesImpl implements TaskBulkUpdates {
+    private final EntityManager entityManager;
+
+    TaskBulkUpdatesImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int reassign(Long projectId, Collection<Long> taskIds, Long assigneeId, Instant now, String actor) {
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        update.set(task.get(Task_.assignedTo), entityManager.getReference(User.class, assigneeId))
+                .set(task.get(Task_.version), cb.sum(task.get(Task_.version), 1))
+                .set(task.get(Task_.updatedAt), now)
+                .set(task.get(Task_.updatedBy), actor)
+                .where(
+                        cb.equal(task.get(Task_.project).get(Project_.id), projectId),
+                        cb.notEqual(task.get(Task_.status), Status.DELETED),
+                        task.get(Task_.id).in(taskIds));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -2,35 +2,179 @@ package com.worktrack.repo;
 
 import com.worktrack.entity.base.Status;
 import com.worktrack.entity.project.Task;
+import com.worktrack.entity.project.TaskStatus;
+import com.worktrack.repo.projection.TaskVersionView;
+import com.worktrack.repo.projection.TaskView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Reads carry no status predicate: soft-deleted tasks are removed by the {@code NOT_DELETED} filter.
+ * Bulk updates keep an explicit one, since filters only restrict what a query reads. Reads default to
+ * a read-only transaction so the filter is on even when no caller transaction exists; the row locks
+ * only make sense inside the caller's.
+ */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+@Transactional(readOnly = true)
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskBulkUpdates {
 
     @Query("""
-                SELECT t
+                SELECT new com.worktrack.repo.projection.TaskView(
+                    t.id, t.title, t.description, t.taskStatus, t.version,
+                    a.id, a.username, a.email, a.fullName, a.role, a.createdBy, a.updatedBy)
                 FROM Task t
-                JOIN FETCH t.project p
-                LEFT JOIN FETCH t.assignedTo a
-                WHERE p.id = :projectId and t.status <> :deletedStatus
+                LEFT JOIN t.assignedTo a
+                WHERE t.project.id = :projectId
             """)
-    List<Task> findAllByProjectId(@Param("projectId") Long projectId, @Param("deletedStatus") Status status);
+    List<TaskView> findAllActiveViewsByProjectId(@Param("projectId") Long projectId);
 
-    default List<Task> findAllActivesByProjectId(Long projectId) {
-        return findAllByProjectId(projectId, Status.DELETED);
+    /**
+     * Keyset page of unmanaged rows after {@code afterId}; the export reads one page per short
+     * transaction so no connection is held while the client downloads.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+                SELECT new com.worktrack.repo.projection.TaskView(
+                    t.id, t.title, t.description, t.taskStatus, t.version,
+                    a.id, a.username, a.email, a.fullName, a.role, a.createdBy, a.updatedBy)
+                FROM Task t
+                LEFT JOIN t.assignedTo a
+                WHERE t.project.id = :projectId AND t.id > :afterId
+                ORDER BY t.id
+            """)
+    List<TaskView> findActiveViewsByProjectIdAfter(@Param("projectId") Long projectId,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable limit);
+
+    /**
+     * Soft-deletes at most {@code limit} active tasks of the project in {@code taskStatus}, bumping
+     * {@code version} as an entity update would; the row count is therefore exactly what the per-status
+     * counters lose. MySQL-specific {@code UPDATE ... LIMIT}; walks {@code idx_task_project_id_status_task_status}.
+     * Declares {@code task} as its only query space so Hibernate does not drop every cache region.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task"))
+    @Query(value = """
+                UPDATE task
+                SET status = :deletedStatus, version = version + 1, updated_at = :now, updated_by = :actor
+                WHERE project_id = :projectId AND status <> :deletedStatus AND task_status = :taskStatus
+                LIMIT :limit
+            """, nativeQuery = true)
+    int softDeleteChunkByProjectId(@Param("projectId") Long projectId,
+                                   @Param("taskStatus") String taskStatus,
+                                   @Param("deletedStatus") String deletedStatus,
+                                   @Param("now") Instant now,
+                                   @Param("actor") String actor,
+                                   @Param("limit") int limit);
+
+    default int softDeleteActiveChunkByProjectId(Long projectId, TaskStatus taskStatus, Instant now, String actor, int limit) {
+        return softDeleteChunkByProjectId(projectId, taskStatus.name(), Status.DELETED.name(), now, actor, limit);
     }
 
-    @Query("SELECT t FROM Task t WHERE t.id = :taskId AND t.project.id = :projectId AND t.status <> :deletedStatus")
-    Optional<Task> findByIdAndProjectIdAndStatusNot(@Param("taskId") Long taskId, @Param("projectId") Long projectId, @Param("deletedStatus") Status deletedStatus);
+    /**
+     * Locks the listed active tasks of the project ({@code FOR UPDATE}) and returns their current version,
+     * so a reassignment decides each outcome from rows nobody else can change before its UPDATE. Native,
+     * so the soft-delete condition is spelled out.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+                SELECT id, version, assigned_to_user_id
+                FROM task
+                WHERE project_id = :projectId AND id IN (:ids) AND status <> 'DELETED'
+                FOR UPDATE
+            """, nativeQuery = true)
+    List<Object[]> lockActiveVersionRowsByIds(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks the next {@code limit} active tasks of the project assigned to {@code assigneeId} with an id
+     * above {@code afterId}; walks {@code idx_task_assigned_to_user_id_status}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+                SELECT id, version, assigned_to_user_id
+                FROM task
+                WHERE assigned_to_user_id = :assigneeId AND status <> 'DELETED'
+                  AND project_id = :projectId AND id > :afterId
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE
+            """, nativeQuery = true)
+    List<Object[]> lockActiveVersionRowsByAssignee(@Param("projectId") Long projectId,
+                                                   @Param("assigneeId") Long assigneeId,
+                                                   @Param("afterId") Long afterId,
+                                                   @Param("limit") int limit);
 
-    default Optional<Task> findActiveByIdAndProjectId(Long taskId, Long projectId) {
-        return findByIdAndProjectIdAndStatusNot(taskId, projectId, Status.DELETED);
+    default List<TaskVersionView> lockActiveVersionsByIds(Long projectId, Collection<Long> ids) {
+        return toVersionViews(lockActiveVersionRowsByIds(projectId, ids));
     }
 
+    default List<TaskVersionView> lockActiveVersionsByAssignee(Long projectId, Long assigneeId, Long afterId, int limit) {
+        return toVersionViews(lockActiveVersionRowsByAssignee(projectId, assigneeId, afterId, limit));
+    }
+
+    private static List<TaskVersionView> toVersionViews(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new TaskVersionView(
+                        ((Number) row[0]).longValue(),
+                        ((Number) row[1]).intValue(),
+                        (row[2] != null) ? ((Number) row[2]).longValue() : null))
+                .toList();
+    }
+
+    /**
+     * Compare-and-set on {@code task_status}: returns 0 when the task is missing, deleted or no longer in
+     * {@code from}, without loading it.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+                UPDATE Task t
+                SET t.taskStatus = :to, t.version = t.version + 1, t.updatedAt = :now, t.updatedBy = :actor
+                WHERE t.id = :taskId
+                  AND t.project.id = :projectId
+                  AND t.taskStatus = :from
+                  AND t.status <> :deletedStatus
+            """)
+    int transitionStatus(@Param("taskId") Long taskId,
+                         @Param("projectId") Long projectId,
+                         @Param("from") TaskStatus from,
+                         @Param("to") TaskStatus to,
+                         @Param("now") Instant now,
+                         @Param("actor") String actor,
+                         @Param("deletedStatus") Status deletedStatus);
+
+    default int transitionActiveStatus(Long taskId, Long projectId, TaskStatus from, TaskStatus to,
+                                       Instant now, String actor) {
+        return transitionStatus(taskId, projectId, from, to, now, actor, Status.DELETED);
+    }
+
+    @Query("""
+                SELECT t.taskStatus, COUNT(t)
+                FROM Task t
+                WHERE t.project.id = :projectId
+                GROUP BY t.taskStatus
+            """)
+    List<Object[]> countActiveGroupedByTaskStatus(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.taskStatus FROM Task t WHERE t.id = :taskId AND t.project.id = :projectId")
+    Optional<TaskStatus> findActiveTaskStatus(@Param("taskId") Long taskId, @Param("projectId") Long projectId);
+
+    @Query("SELECT t FROM Task t WHERE t.id = :taskId AND t.project.id = :projectId")
+    Optional<Task> findActiveByIdAndProjectId(@Param("taskId") Long taskId, @Param("projectId") Long projectId);
+
 }
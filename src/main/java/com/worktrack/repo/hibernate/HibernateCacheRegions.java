@@ -0,0 +1,5 @@
+package com.worktrack.repo.hibernate;
+
+public interface HibernateCacheRegions {
+    String PROJECT = "project";
+}
@@ -1,5 +1,5 @@
 package com.worktrack.repo.hibernate;
 
 public interface HibernateFilterParameters {
-    String DELETED_STATUS = "deletedStatus";
-}
\ No newline at end of file
+    String VISIBLE_STATUSES = "visibleStatuses";
+}
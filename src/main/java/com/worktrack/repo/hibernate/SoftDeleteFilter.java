@@ -0,0 +1,63 @@
+package com.worktrack.repo.hibernate;
+
+import com.worktrack.entity.base.Status;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Switches the {@link HibernateFilterNames#NOT_DELETED} filter on a session, and is the escape hatch for
+ * the few reads that must see soft-deleted rows: uniqueness checks, audit and admin counts.
+ */
+@Component
+public class SoftDeleteFilter {
+
+    private static final List<String> VISIBLE_STATUSES = Arrays.stream(Status.values())
+            .filter(status -> status != Status.DELETED)
+            .map(Status::name)
+            .toList();
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public SoftDeleteFilter(EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public static void enable(Session session) {
+        session.enableFilter(HibernateFilterNames.NOT_DELETED)
+                .setParameterList(HibernateFilterParameters.VISIBLE_STATUSES, VISIBLE_STATUSES);
+    }
+
+    /**
+     * Runs {@code query} with the filter disabled, joining the caller's transaction or starting one, and
+     * restores the filter afterwards. Entities loaded inside stay in the persistence context as usual.
+     */
+    public <T> T includingDeleted(Supplier<T> query) {
+        return transactionTemplate.execute(tx -> {
+            Session session = entityManager.unwrap(Session.class);
+            boolean enabled = session.getEnabledFilter(HibernateFilterNames.NOT_DELETED) != null;
+            session.disableFilter(HibernateFilterNames.NOT_DELETED);
+            try {
+                return query.get();
+            } finally {
+                if (enabled) {
+                    enable(session);
+                }
+            }
+        });
+    }
+
+    public void runIncludingDeleted(Runnable work) {
+        includingDeleted(() -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.worktrack.repo.hibernate;
+
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Enables the {@link HibernateFilterNames#NOT_DELETED} filter on the session of every transaction it
+ * begins. Filters are session state, so a query outside a transaction is not filtered; the repository
+ * interfaces are therefore {@code @Transactional(readOnly = true)}, which Spring Data does not do for
+ * declared query methods on its own.
+ */
+public class SoftDeleteFilteringTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        var holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (holder != null) {
+            SoftDeleteFilter.enable(holder.getEntityManager().unwrap(Session.class));
+        }
+    }
+}
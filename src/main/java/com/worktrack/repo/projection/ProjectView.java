@@ -0,0 +1,35 @@
+package com.worktrack.repo.projection;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.base.Status;
+
+import java.time.Instant;
+
+/**
+ * Flat, unmanaged project row selected with a JPQL constructor expression; the owner columns are
+ * {@code null} when the project has no owner.
+ */
+public record ProjectView(
+        Long id,
+        String name,
+        String description,
+        Instant createdAt,
+        Integer version,
+        Status status,
+        String createdBy,
+        String updatedBy,
+        Long ownerId,
+        String ownerUsername,
+        String ownerEmail,
+        String ownerFullName,
+        Role ownerRole,
+        String ownerCreatedBy,
+        String ownerUpdatedBy
+) {
+    public UserView owner() {
+        return (ownerId != null)
+                ? new UserView(ownerId, ownerUsername, ownerEmail, ownerFullName,
+                        ownerRole, ownerCreatedBy, ownerUpdatedBy)
+                : null;
+    }
+}
@@ -0,0 +1,4 @@
+package com.worktrack.repo.projection;
+
+public record TaskVersionView(Long id, Integer version, Long assigneeId) {
+}
@@ -0,0 +1,30 @@
+package com.worktrack.repo.projection;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.project.TaskStatus;
+
+/**
+ * Flat, unmanaged task row selected with a JPQL constructor expression; the assignee columns are
+ * {@code null} when the task is unassigned.
+ */
+public record TaskView(
+        Long id,
+        String title,
+        String description,
+        TaskStatus taskStatus,
+        Integer version,
+        Long assigneeId,
+        String assigneeUsername,
+        String assigneeEmail,
+        String assigneeFullName,
+        Role assigneeRole,
+        String assigneeCreatedBy,
+        String assigneeUpdatedBy
+) {
+    public UserView assignee() {
+        return (assigneeId != null)
+                ? new UserView(assigneeId, assigneeUsername, assigneeEmail, assigneeFullName,
+                        assigneeRole, assigneeCreatedBy, assigneeUpdatedBy)
+                : null;
+    }
+}
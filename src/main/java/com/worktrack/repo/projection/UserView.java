@@ -0,0 +1,17 @@
+package com.worktrack.repo.projection;
+
+import com.worktrack.entity.auth.Role;
+
+/**
+ * The user columns a response exposes, without the password hash or token version.
+ */
+public record UserView(
+        Long id,
+        String username,
+        String email,
+        String fullName,
+        Role role,
+        String createdBy,
+        String updatedBy
+) {
+}
@@ -2,44 +2,53 @@ package com.worktrack.repo.user;
 
 import com.worktrack.entity.auth.Role;
 import com.worktrack.entity.auth.User;
-import com.worktrack.entity.base.Status;
+import com.worktrack.repo.projection.UserView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Queries carry no status predicate: soft-deleted users are removed by the {@code NOT_DELETED} filter.
+ * {@link #existsByUsername} and {@link #existsByEmail} back unique columns and must be run through
+ * {@code SoftDeleteFilter.includingDeleted} to see deleted users as well.
+ */
 @Repository
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
 
-    Optional<User> findByUsernameAndStatusNot(String username, Status status);
+    @Query("SELECT u FROM User u WHERE u.username = :username")
+    Optional<User> findActiveByUsername(@Param("username") String username);
 
     List<User> findByRole(Role role);
 
-    List<User> findByRoleAndStatusNot(Role role, Status status);
+    @Query("SELECT u FROM User u WHERE u.role = :role")
+    List<User> findAllActiveByRole(@Param("role") Role role);
 
-    Optional<User> findByIdAndStatusNot(Long id, Status status);
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findActiveById(@Param("id") Long id);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findActiveTokenVersionById(@Param("id") Long id);
 
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
 
-    default Optional<User> findActiveByUsername(String username) {
-        return findByUsernameAndStatusNot(username, Status.DELETED);
-    }
-
-    default List<User> findAllActiveByRole(Role role) {
-        return findByRoleAndStatusNot(role, Status.DELETED);
-    }
-
-    default Optional<User> findActiveById(Long id) {
-        return findByIdAndStatusNot(id, Status.DELETED);
-    }
-
-    List<User> findAllByStatusNot(Status status);
+    @Query("SELECT u FROM User u")
+    List<User> findAllActives();
 
-    default List<User> findAllActives() {
-        return findAllByStatusNot(Status.DELETED);
-    }
+    @Query("""
+                SELECT new com.worktrack.repo.projection.UserView(
+                    u.id, u.username, u.email, u.fullName, u.role, u.createdBy, u.updatedBy)
+                FROM User u
+                WHERE u.id IN :ids
+            """)
+    List<UserView> findActiveViewsByIds(@Param("ids") Collection<Long> ids);
 }
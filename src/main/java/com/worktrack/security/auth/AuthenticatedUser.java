@@ -0,0 +1,24 @@
+package com.worktrack.security.auth;
+
+import com.worktrack.entity.auth.Role;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Lightweight principal built from JWT claims alone, used instead of the {@code User} entity
+ * when {@code jwt.principal-mode=claims}.
+ */
+public record AuthenticatedUser(Long id, String username, Role role, int tokenVersion) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
@@ -8,4 +8,5 @@ public interface AuthenticationFacade {
     String getCurrentUsername();
     Long getCurrentUserId();
     boolean hasRole(Role role);
+    AuthorizationContext getAuthorizationContext();
 }
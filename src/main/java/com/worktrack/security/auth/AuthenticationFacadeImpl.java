@@ -1,14 +1,17 @@
 package com.worktrack.security.auth;
 
 import com.worktrack.entity.auth.Role;
-import com.worktrack.entity.auth.User;
 import com.worktrack.exception.auth.AuthenticationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Component
 public class AuthenticationFacadeImpl implements AuthenticationFacade {
+    private static final String AUTHORIZATION_CONTEXT_ATTRIBUTE = AuthorizationContext.class.getName();
+
     @Override
     public Authentication getAuthentication() {
         return SecurityContextHolder.getContext().getAuthentication();
@@ -29,23 +32,36 @@ public class AuthenticationFacadeImpl implements AuthenticationFacade {
         if (isNotAuthenticated(auth) || auth.getPrincipal() == null) {
             throw new AuthenticationException("No authenticated user found in security context.");
         }
-        Object principal = auth.getPrincipal();
-        if (principal instanceof User user) {
-            return user.getId();
+        Long userId = getAuthorizationContext().userId();
+        if (userId == null) {
+            throw new AuthenticationException("Cannot determine current user id. Principal is not a valid User instance.");
         }
-        throw new AuthenticationException("Cannot determine current user id. Principal is not a valid User instance.");
+        return userId;
     }
 
-
     @Override
     public boolean hasRole(Role role) {
+        return getAuthorizationContext().hasRole(role);
+    }
+
+    /**
+     * Resolved once per request and kept as a request attribute; outside a request it is resolved on
+     * every call.
+     */
+    @Override
+    public AuthorizationContext getAuthorizationContext() {
         Authentication auth = getAuthentication();
-        if (auth == null || !auth.isAuthenticated() || auth.getAuthorities() == null) {
-            return false;
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return AuthorizationContext.of(auth);
+        }
+        if (request.getAttribute(AUTHORIZATION_CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof AuthorizationContext cached
+                && cached.isFor(auth)) {
+            return cached;
         }
-        String expected = "ROLE_" + role.name();
-        return auth.getAuthorities().stream()
-                .anyMatch(a -> expected.equals(a.getAuthority()));
+        AuthorizationContext context = AuthorizationContext.of(auth);
+        request.setAttribute(AUTHORIZATION_CONTEXT_ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        return context;
     }
 
     private boolean isNotAuthenticated(Authentication auth) {
@@ -0,0 +1,85 @@
+package com.worktrack.security.auth;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.auth.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * What policy checks need to know about the caller, resolved once from an {@link Authentication}:
+ * the user id and the granted roles as a bitmask over {@link Role#ordinal()}.
+ */
+public final class AuthorizationContext {
+
+    private static final Map<String, Integer> ROLE_BITS = Arrays.stream(Role.values())
+            .collect(Collectors.toUnmodifiableMap(role -> "ROLE_" + role.name(), AuthorizationContext::bit));
+
+    private final Authentication source;
+    private final Long userId;
+    private final int roles;
+
+    private AuthorizationContext(Authentication source, Long userId, int roles) {
+        this.source = source;
+        this.userId = userId;
+        this.roles = roles;
+    }
+
+    public static AuthorizationContext of(Authentication auth) {
+        if (auth == null || !auth.isAuthenticated()) {
+            return new AuthorizationContext(auth, null, 0);
+        }
+        return new AuthorizationContext(auth, userId(auth.getPrincipal()), roles(auth));
+    }
+
+    private static Long userId(Object principal) {
+        if (principal instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        if (principal instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static int roles(Authentication auth) {
+        if (auth.getAuthorities() == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            Integer bit = (authority.getAuthority() != null) ? ROLE_BITS.get(authority.getAuthority()) : null;
+            if (bit != null) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    private static int bit(Role role) {
+        return 1 << role.ordinal();
+    }
+
+    /**
+     * Whether this context was resolved from {@code auth}, so a cached context is dropped once the
+     * authentication in the security context is replaced.
+     */
+    boolean isFor(Authentication auth) {
+        return source == auth;
+    }
+
+    public Long userId() {
+        return userId;
+    }
+
+    public boolean hasRole(Role role) {
+        return (roles & bit(role)) != 0;
+    }
+
+    public boolean isUser(Long id) {
+        return userId != null && userId.equals(id);
+    }
+}
@@ -2,6 +2,7 @@ package com.worktrack.security.jwt;
 
 import java.io.IOException;
 
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -10,8 +11,12 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.worktrack.entity.auth.Role;
+import com.worktrack.security.auth.AuthenticatedUser;
+import com.worktrack.security.jwt.VerifiedTokenCache.VerifiedToken;
 import com.worktrack.service.user.UserService;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,11 +27,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserService userService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final PrincipalMode principalMode;
     private final AuthenticationEntryPoint authenticationEntryPoint;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserService userService, AuthenticationEntryPoint authenticationEntryPoint) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserService userService,
+                                   VerifiedTokenCache verifiedTokenCache,
+                                   TokenVersionRegistry tokenVersionRegistry,
+                                   JwtProperties jwtProperties,
+                                   AuthenticationEntryPoint authenticationEntryPoint) {
         this.jwtService = jwtService;
         this.userService = userService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.principalMode = jwtProperties.principalMode();
         this.authenticationEntryPoint = authenticationEntryPoint;
     }
 
@@ -45,19 +61,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String token = authHeader.substring(7);
         try {
-            final String username = jwtService.extractUsername(token);
-
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                userService.findByUsername(username)
-                        .ifPresent(user -> {
-                            var authToken = new UsernamePasswordAuthenticationToken(
-                                    user,
-                                    null,
-                                    user.getAuthorities()
-                            );
-                            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                            SecurityContextHolder.getContext().setAuthentication(authToken);
-                        });
+            VerifiedToken verified = verifiedTokenCache.get(token);
+            if (verified == null) {
+                verified = verify(token);
+            }
+            // Claim-based principals are checked on every request, cached or not, so revocation is not delayed by the token cache.
+            if (verified != null && verified.principal() instanceof AuthenticatedUser user
+                    && !tokenVersionRegistry.isCurrent(user.id(), user.tokenVersion())) {
+                throw new BadCredentialsException("token revoked");
+            }
+
+            if (verified != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                var authToken = new UsernamePasswordAuthenticationToken(
+                        verified.principal(),
+                        null,
+                        verified.authorities()
+                );
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
 
             filterChain.doFilter(request, response);
@@ -65,4 +86,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             authenticationEntryPoint.commence(request, response, ex);
         }
     }
+
+    /**
+     * Verifies the signature, resolves the principal and caches the result until the token expires.
+     * Returns {@code null} when the subject no longer maps to an active user.
+     */
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtService.extractVerifiedClaims(token);
+        String username = claims.getSubject();
+        if (username == null) {
+            return null;
+        }
+        long expiresAtMillis = (claims.getExpiration() != null) ? claims.getExpiration().getTime() : 0L;
+
+        VerifiedToken verified = (principalMode == PrincipalMode.CLAIMS && hasPrincipalClaims(claims))
+                ? fromClaims(username, claims, expiresAtMillis)
+                : fromUser(username, expiresAtMillis);
+        if (verified != null) {
+            verifiedTokenCache.put(token, verified);
+        }
+        return verified;
+    }
+
+    private VerifiedToken fromClaims(String username, Claims claims, long expiresAtMillis) {
+        var user = new AuthenticatedUser(
+                claims.get(JwtClaimNames.USER_ID, Long.class),
+                username,
+                Role.valueOf(claims.get(JwtClaimNames.ROLE, String.class)),
+                claims.get(JwtClaimNames.TOKEN_VERSION, Integer.class)
+        );
+        return new VerifiedToken(username, user, user.authorities(), expiresAtMillis);
+    }
+
+    private VerifiedToken fromUser(String username, long expiresAtMillis) {
+        return userService.findSnapshotByUsername(username)
+                .map(snapshot -> new AuthenticatedUser(
+                        snapshot.id(), snapshot.username(), snapshot.role(), snapshot.tokenVersion()))
+                .map(user -> new VerifiedToken(user.username(), user, user.authorities(), expiresAtMillis))
+                .orElse(null);
+    }
+
+    /**
+     * Tokens issued before the stateless mode carry only {@code role}; they fall back to the entity lookup.
+     */
+    private static boolean hasPrincipalClaims(Claims claims) {
+        return claims.get(JwtClaimNames.USER_ID) != null
+                && claims.get(JwtClaimNames.ROLE) != null
+                && claims.get(JwtClaimNames.TOKEN_VERSION) != null;
+    }
 }
@@ -0,0 +1,9 @@
+package com.worktrack.security.jwt;
+
+public final class JwtClaimNames {
+    public static final String ROLE = "role";
+    public static final String USER_ID = "uid";
+    public static final String TOKEN_VERSION = "tv";
+
+    private JwtClaimNames() {}
+}
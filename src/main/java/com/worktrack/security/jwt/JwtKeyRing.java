@@ -0,0 +1,78 @@
+package com.worktrack.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of HMAC keys decoded once from {@link JwtProperties}.
+ * <p>
+ * New tokens are signed with the active key and carry its id in the {@code kid} header.
+ * Verification resolves the key by {@code kid}, so retired keys can stay in the ring until
+ * the tokens they signed have expired. Tokens without a {@code kid} fall back to the legacy secret.
+ */
+final class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private final Map<String, SecretKey> keysById;
+    private final SecretKey legacyKey;
+    private final String activeKeyId;
+
+    private JwtKeyRing(Map<String, SecretKey> keysById, SecretKey legacyKey, String activeKeyId) {
+        this.keysById = Map.copyOf(keysById);
+        this.legacyKey = legacyKey;
+        this.activeKeyId = activeKeyId;
+    }
+
+    static JwtKeyRing from(JwtProperties properties) {
+        Map<String, SecretKey> keysById = new HashMap<>();
+        properties.keys().forEach((kid, secret) -> keysById.put(kid, decode(secret)));
+
+        SecretKey legacyKey = isBlank(properties.secret()) ? null : decode(properties.secret());
+
+        String activeKeyId = isBlank(properties.activeKeyId()) ? null : properties.activeKeyId();
+        if (activeKeyId != null && !keysById.containsKey(activeKeyId)) {
+            throw new IllegalStateException("jwt.active-key-id '" + activeKeyId + "' is not present in jwt.keys");
+        }
+        return new JwtKeyRing(keysById, legacyKey, activeKeyId);
+    }
+
+    /**
+     * Key id to put in the {@code kid} header of new tokens, or {@code null} when signing with the legacy secret.
+     */
+    String activeKeyId() {
+        return activeKeyId;
+    }
+
+    SecretKey signingKey() {
+        SecretKey key = (activeKeyId != null) ? keysById.get(activeKeyId) : legacyKey;
+        if (key == null) {
+            throw new IllegalStateException("No JWT signing key configured (jwt.secret or jwt.active-key-id)");
+        }
+        return key;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        Key key = (kid == null) ? legacyKey : keysById.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT signing key" + (kid == null ? "" : " id '" + kid + "'"));
+        }
+        return key;
+    }
+
+    private static SecretKey decode(String base64Secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
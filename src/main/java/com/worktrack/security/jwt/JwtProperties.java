@@ -1,6 +1,35 @@
 package com.worktrack.security.jwt;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
+import java.util.Map;
+
+/**
+ * @param secret        legacy Base64 secret, used for tokens without a {@code kid} header
+ * @param expiration    token lifetime in milliseconds
+ * @param activeKeyId   key id used to sign new tokens; when blank, tokens are signed with {@link #secret()}
+ * @param keys          keyring of Base64 secrets indexed by {@code kid}, kept for verification during rotation
+ * @param principalMode how the filter resolves the principal of a verified token
+ */
 @ConfigurationProperties(prefix = "jwt")
-public record JwtProperties(String secret, long expiration) {}
+public record JwtProperties(String secret,
+                            long expiration,
+                            String activeKeyId,
+                            Map<String, String> keys,
+                            PrincipalMode principalMode) {
+
+    @ConstructorBinding
+    public JwtProperties {
+        keys = (keys == null) ? Map.of() : Map.copyOf(keys);
+        principalMode = (principalMode == null) ? PrincipalMode.ENTITY : principalMode;
+    }
+
+    public JwtProperties(String secret, long expiration, String activeKeyId, Map<String, String> keys) {
+        this(secret, expiration, activeKeyId, keys, PrincipalMode.ENTITY);
+    }
+
+    public JwtProperties(String secret, long expiration) {
+        this(secret, expiration, null, Map.of());
+    }
+}
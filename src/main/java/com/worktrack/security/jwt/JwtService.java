@@ -7,5 +7,6 @@ import io.jsonwebtoken.Claims;
 public interface JwtService {
     GeneratedToken generateToken(User user);
     String extractUsername(String token);
+    Claims extractVerifiedClaims(String token);
     Claims validateToken(String token);
 }
@@ -6,14 +6,11 @@ import com.worktrack.entity.auth.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.jackson.io.JacksonDeserializer;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
@@ -24,28 +21,43 @@ import java.util.Map;
 public class JwtServiceImpl implements JwtService {
 
     private final JwtProperties jwtProperties;
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;   // immutable and thread-safe, built once
 
 
     public JwtServiceImpl(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
+        this.keyRing = JwtKeyRing.from(jwtProperties);
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .json(new JacksonDeserializer<>(Map.of()))
+                .build();
     }
 
     @Override
     public GeneratedToken generateToken(User user) {
         Instant now = Instant.now();
         var token= Jwts.builder()
+                .header().keyId(keyRing.activeKeyId()).and()
                 .subject(user.getUsername())
-                .claim("role", user.getRole().name())
+                .claim(JwtClaimNames.ROLE, user.getRole().name())
+                .claim(JwtClaimNames.USER_ID, user.getId())
+                .claim(JwtClaimNames.TOKEN_VERSION, user.getTokenVersion())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(now.plusMillis(jwtProperties.expiration())))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(keyRing.signingKey(), Jwts.SIG.HS256)
                 .compact();
         return new GeneratedToken(token, TokenType.BEARER, System.currentTimeMillis() + jwtProperties.expiration());
     }
 
     public String extractUsername(String token) {
+        return extractVerifiedClaims(token).getSubject();
+    }
+
+    @Override
+    public Claims extractVerifiedClaims(String token) {
         try {
-            return validateToken(token).getSubject();
+            return validateToken(token);
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             throw new CredentialsExpiredException("token expired", e);
         } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
@@ -60,20 +72,8 @@ public class JwtServiceImpl implements JwtService {
     }
 
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.secret());
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    private JwtParser jwtParser() {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .json(new JacksonDeserializer<>(Map.of()))
-                .build();
-    }
-
     public Claims extractAllClaims(String token) {
-        return jwtParser().parseSignedClaims(token).getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
 }
@@ -0,0 +1,13 @@
+package com.worktrack.security.jwt;
+
+public enum PrincipalMode {
+    /**
+     * Resolve the principal from the cached {@code UserSnapshot} for every new token.
+     */
+    ENTITY,
+    /**
+     * Build the principal from the {@code uid}, {@code role} and {@code tv} claims and
+     * only check the token version against {@link TokenVersionRegistry}.
+     */
+    CLAIMS
+}
@@ -0,0 +1,17 @@
+package com.worktrack.security.jwt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param ttl how long a user's token version is trusted before it is re-read; bounds how long a
+ *            revocation made on another pod can go unnoticed
+ */
+@ConfigurationProperties(prefix = "jwt.token-versions")
+public record TokenVersionProperties(
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("30s") Duration ttl
+) {
+}
@@ -0,0 +1,44 @@
+package com.worktrack.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.worktrack.service.user.UserCacheEvictedEvent;
+import com.worktrack.service.user.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Compact local table of {@code userId -> token version}, used to revoke claim-based tokens
+ * without loading the user. Deleted users map to {@link #REVOKED}, which no token can match.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final int REVOKED = -1;
+
+    private final LoadingCache<Long, Integer> versions;
+
+    public TokenVersionRegistry(TokenVersionProperties properties,
+                                UserService userService,
+                                MeterRegistry meterRegistry) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build(userId -> userService.findActiveTokenVersion(userId).orElse(REVOKED));
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "jwt.tokenVersions");
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion != REVOKED && versions.get(userId) == tokenVersion;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCacheEvicted(UserCacheEvictedEvent event) {
+        if (event.userId() != null) {
+            versions.invalidate(event.userId());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.worktrack.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.worktrack.infra.cache.CacheNames;
+import com.worktrack.infra.cache.RemoteCacheEvictionEvent;
+import com.worktrack.service.user.UserCacheEvictedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Bounded in-process cache of tokens whose signature has already been verified, keyed by the SHA-256
+ * of the token. An entry holds the resolved principal and authorities and lives until the token's
+ * {@code exp} (capped by {@code jwt.token-cache.max-ttl}), so repeated calls with the same bearer token
+ * skip signature verification, claim parsing and the user lookup.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public record VerifiedToken(String username,
+                                Object principal,
+                                Collection<? extends GrantedAuthority> authorities,
+                                long expiresAtMillis) {
+
+        public VerifiedToken {
+            authorities = List.copyOf(authorities);
+        }
+
+        boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(VerifiedTokenCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        long maxTtlNanos = properties.maxTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long untilExpiry = (value.expiresAtMillis() - System.currentTimeMillis()) * 1_000_000;
+                        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verifiedTokens");
+    }
+
+    public VerifiedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        String key = hash(token);
+        VerifiedToken verified = cache.getIfPresent(key);
+        if (verified != null && verified.isExpired(System.currentTimeMillis())) {
+            cache.invalidate(key);   // expiry is timer-wheel based; never serve a token past its exp
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (enabled && !verified.isExpired(System.currentTimeMillis())) {
+            cache.put(hash(token), verified);
+        }
+    }
+
+    public void invalidateUser(String username) {
+        cache.asMap().values().removeIf(verified -> verified.username().equals(username));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCacheEvicted(UserCacheEvictedEvent event) {
+        invalidateUser(event.username());
+    }
+
+    @EventListener
+    public void onRemoteCacheEviction(RemoteCacheEvictionEvent event) {
+        if (!CacheNames.USERS_BY_USERNAME.equals(event.cacheName())) {
+            return;
+        }
+        if (event.key() == null) {
+            cache.invalidateAll();
+        } else {
+            invalidateUser(event.key());
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
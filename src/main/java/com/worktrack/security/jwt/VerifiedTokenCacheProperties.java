@@ -0,0 +1,19 @@
+package com.worktrack.security.jwt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maximumSize upper bound on cached tokens, evicted by size once reached
+ * @param maxTtl      cap on how long an entry may live even if the token expires later;
+ *                    bounds staleness for invalidations that happen on other pods
+ */
+@ConfigurationProperties(prefix = "jwt.token-cache")
+public record VerifiedTokenCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration maxTtl
+) {
+}
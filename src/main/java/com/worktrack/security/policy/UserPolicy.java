@@ -2,6 +2,7 @@ package com.worktrack.security.policy;
 
 import com.worktrack.entity.auth.Role;
 import com.worktrack.security.auth.AuthenticationFacade;
+import com.worktrack.security.auth.AuthorizationContext;
 import org.springframework.stereotype.Component;
 
 @Component("userPolicy")
@@ -13,60 +14,79 @@ public class UserPolicy {
     }
 
     /**
-     * Used by @PreAuthorize in UserServiceImpl.
+     * Actions checked with {@link UserPolicyCheck} in UserServiceImpl.
      */
-    public boolean canReadUser(Long userId) {
-        return isAdmin() || isLoggedInUser(userId);
+    public enum Action {
+        READ_USER(true),
+        UPDATE_USER(true),
+        DELETE_USER(true),
+        SEARCH_USERS(false),
+        LIST_USERS(false),
+        LIST_USERS_BY_ROLE(false),
+        ASSIGN_ROLE(false);
+
+        private final boolean targetsUser;
+
+        Action(boolean targetsUser) {
+            this.targetsUser = targetsUser;
+        }
+
+        public boolean targetsUser() {
+            return targetsUser;
+        }
     }
 
     /**
-     * Used by @PreAuthorize in UserServiceImpl.
+     * Used by {@link UserPolicyAuthorizationManager}; {@code userId} is {@code null} for actions that
+     * do not target a single user.
      */
+    public boolean isAllowed(Action action, Long userId) {
+        return switch (action) {
+            case READ_USER -> canReadUser(userId);
+            case UPDATE_USER -> canUpdateUser(userId);
+            case DELETE_USER -> canDeleteUser(userId);
+            case SEARCH_USERS -> canSearchUsers();
+            case LIST_USERS -> canListUsers();
+            case LIST_USERS_BY_ROLE -> canListUsersByRole();
+            case ASSIGN_ROLE -> canAssignRole();
+        };
+    }
+
+    public boolean canReadUser(Long userId) {
+        return isAdminOrSelf(userId);
+    }
+
     public boolean canUpdateUser(Long userId) {
-        return isAdmin() || isLoggedInUser(userId);
+        return isAdminOrSelf(userId);
     }
 
-    /**
-     * Used by @PreAuthorize in UserServiceImpl.
-     */
     public boolean canDeleteUser(Long userId) {
-        return isAdmin() || isLoggedInUser(userId);
+        return isAdminOrSelf(userId);
     }
 
-    /**
-     * Used by @PreAuthorize in UserServiceImpl.
-     */
     public boolean canSearchUsers() {
         return isAdmin();
     }
 
-    /**
-     * Used by @PreAuthorize in UserServiceImpl.
-     */
     public boolean canListUsers() {
         return isAdmin();
     }
 
-    /**
-     * Used by @PreAuthorize in com.worktrack.service.user.UserServiceImpl / findAllByRole
-     */
     public boolean canListUsersByRole() {
         return isAdmin();
     }
 
-    /**
-     * Used by @PreAuthorize in UserServiceImpl / assignRole
-     */
     public boolean canAssignRole() {
         return isAdmin();
     }
 
-    private boolean isLoggedInUser(Long userId) {
-        return authenticationFacade.getCurrentUserId().equals(userId);
+    private boolean isAdminOrSelf(Long userId) {
+        AuthorizationContext context = authenticationFacade.getAuthorizationContext();
+        return context.hasRole(Role.ADMIN) || context.isUser(userId);
     }
 
     private boolean isAdmin() {
-        return authenticationFacade.hasRole(Role.ADMIN);
+        return authenticationFacade.getAuthorizationContext().hasRole(Role.ADMIN);
     }
 
 }
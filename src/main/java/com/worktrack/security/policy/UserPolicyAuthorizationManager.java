@@ -0,0 +1,72 @@
+package com.worktrack.security.policy;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Decides {@link UserPolicyCheck} methods by calling {@link UserPolicy} with the annotated action.
+ * The annotation and the position of the user id are looked up once per method; the policy reads
+ * the caller from the request's {@code AuthorizationContext} rather than the supplied authentication,
+ * both come from the same security context.
+ */
+public class UserPolicyAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final int NO_USER_ID = -1;
+
+    private record Binding(UserPolicy.Action action, int userIdIndex) {
+    }
+
+    private final Supplier<UserPolicy> userPolicy;
+    private final Map<MethodClassKey, Binding> bindings = new ConcurrentHashMap<>();
+
+    public UserPolicyAuthorizationManager(Supplier<UserPolicy> userPolicy) {
+        this.userPolicy = userPolicy;
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Class<?> targetClass = (invocation.getThis() != null) ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        Binding binding = bindings.computeIfAbsent(new MethodClassKey(invocation.getMethod(), targetClass),
+                key -> bind(invocation.getMethod(), targetClass));
+        Long userId = (binding.userIdIndex() == NO_USER_ID) ? null : (Long) invocation.getArguments()[binding.userIdIndex()];
+        return new AuthorizationDecision(userPolicy.get().isAllowed(binding.action(), userId));
+    }
+
+    /**
+     * Still abstract on {@link AuthorizationManager}; the interceptor calls {@link #authorize}.
+     */
+    @Override
+    @Deprecated
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return (AuthorizationDecision) authorize(authentication, invocation);
+    }
+
+    private static Binding bind(Method method, Class<?> targetClass) {
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+        UserPolicyCheck check = AnnotatedElementUtils.findMergedAnnotation(specific, UserPolicyCheck.class);
+        if (check == null) {
+            throw new IllegalStateException("No @UserPolicyCheck on " + specific);
+        }
+        if (!check.value().targetsUser()) {
+            return new Binding(check.value(), NO_USER_ID);
+        }
+        Class<?>[] parameterTypes = specific.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i] == Long.class) {
+                return new Binding(check.value(), i);
+            }
+        }
+        throw new IllegalStateException("@UserPolicyCheck(" + check.value() + ") needs a Long user id parameter on " + specific);
+    }
+}
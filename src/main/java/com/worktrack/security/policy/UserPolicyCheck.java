@@ -0,0 +1,18 @@
+package com.worktrack.security.policy;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Authorizes a method with {@link UserPolicy} directly, without evaluating a {@code @PreAuthorize}
+ * expression. Actions on a single user read its id from the first {@code Long} parameter.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UserPolicyCheck {
+    UserPolicy.Action value();
+}
@@ -8,6 +8,7 @@ import com.worktrack.infra.observability.SpanNames;
 import com.worktrack.security.auth.AuthenticationFacade;
 import com.worktrack.security.jwt.JwtService;
 import com.worktrack.service.user.UserService;
+import com.worktrack.service.user.UserSnapshot;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,7 @@ public class AuthServiceImpl implements AuthService {
         if (!passwordEncoder.matches(password, user.getPassword())) {
             throw new InvalidCredentialsException("Invalid username or password");
         }
+        userService.cacheSnapshot(user);
         var generateToken = jwtService.generateToken(user);
         return new LoginResponse(generateToken.token(), generateToken.type().name(), generateToken.expiresAt());
     }
@@ -42,13 +44,13 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public UserResponse getCurrentUserInfo() {
         String username = authenticationFacade.getCurrentUsername();
-        User user = findUser(username);
+        UserSnapshot user = findUser(username);
         return userService.toDto(user);
     }
 
 
-    private User findUser(String username) {
-        return userService.findByUsername(username)
+    private UserSnapshot findUser(String username) {
+        return userService.findSnapshotByUsername(username)
                 .orElseThrow(() -> new InvalidCredentialsException("User not found"));
     }
 
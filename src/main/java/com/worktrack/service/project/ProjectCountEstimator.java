@@ -0,0 +1,82 @@
+package com.worktrack.service.project;
+
+import com.worktrack.entity.base.Status;
+import com.worktrack.repo.ProjectRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Approximate project counts per status, recounted on a schedule and nudged by local writes in
+ * between, so listing endpoints can report a total without a {@code COUNT(*)} per request.
+ */
+@Component
+public class ProjectCountEstimator {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectCountEstimator.class);
+
+    private final ProjectRepository projectRepository;
+    private final SoftDeleteFilter softDeleteFilter;
+    private final Map<Status, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    public ProjectCountEstimator(ProjectRepository projectRepository, SoftDeleteFilter softDeleteFilter) {
+        this.projectRepository = projectRepository;
+        this.softDeleteFilter = softDeleteFilter;
+    }
+
+    /**
+     * @return the estimate, or {@code null} until the first recount has completed
+     */
+    public Long estimate(Status status) {
+        AtomicLong count = counts.get(status);
+        return (count != null) ? Math.max(0, count.get()) : null;
+    }
+
+    /**
+     * Inside a transaction the adjustment is applied after commit, so a rollback leaves the estimate alone.
+     */
+    public void adjust(Status status, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(status, delta);
+                }
+            });
+        } else {
+            apply(status, delta);
+        }
+    }
+
+    private void apply(Status status, long delta) {
+        AtomicLong count = counts.get(status);
+        if (count != null) {
+            count.addAndGet(delta);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${projects.count-estimate.initial-delay:PT5S}",
+            fixedDelayString = "${projects.count-estimate.refresh-interval:PT1M}")
+    public void refresh() {
+        try {
+            Map<Status, Long> fresh = new EnumMap<>(Status.class);
+            for (Status status : Status.values()) {
+                fresh.put(status, 0L);
+            }
+            for (Object[] row : softDeleteFilter.includingDeleted(projectRepository::countGroupedByStatus)) {
+                fresh.put((Status) row[0], (Long) row[1]);
+            }
+            fresh.forEach((status, count) -> counts.computeIfAbsent(status, s -> new AtomicLong()).set(count));
+        } catch (RuntimeException ex) {
+            logger.warn("Project count refresh failed, keeping previous estimate. cause={}", ex.getMessage());
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.worktrack.service.project;
 
 import com.worktrack.dto.request.project.CreateProjectRequest;
+import com.worktrack.common.pagination.TotalCountMode;
+import com.worktrack.dto.response.CursorPage;
+import com.worktrack.dto.response.SliceResponse;
+import com.worktrack.dto.response.project.ProjectDeletionResponse;
 import com.worktrack.dto.response.project.ProjectResponse;
+import com.worktrack.dto.response.project.ProjectTaskStatsResponse;
 import com.worktrack.entity.project.Project;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,10 +21,21 @@ public interface ProjectService {
 
     ProjectResponse getProjectById(Long id);
 
+    ProjectTaskStatsResponse getProjectTaskStats(Long id);
+
     void deleteProject(Long id);
 
+    /**
+     * Soft-deletes the project and all of its tasks in chunked bulk updates, each in its own transaction.
+     */
+    ProjectDeletionResponse deleteProjectCascade(Long id);
+
     Page<ProjectResponse> getAllProjects(Pageable pageable);
 
+    CursorPage<ProjectResponse> getProjectsAfter(String cursor, int size);
+
+    SliceResponse<ProjectResponse> getProjectSlice(Pageable pageable, TotalCountMode totalCountMode);
+
     Project findByIdForced(Long id);
 
     Project findByIdWithOwnerForced(Long id);
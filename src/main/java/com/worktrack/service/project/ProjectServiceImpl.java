@@ -1,45 +1,80 @@
 package com.worktrack.service.project;
 
+import com.worktrack.common.pagination.KeysetCursor;
+import com.worktrack.common.pagination.TotalCountMode;
 import com.worktrack.dto.request.project.CreateProjectRequest;
+import com.worktrack.dto.response.CursorPage;
+import com.worktrack.dto.response.SliceResponse;
+import com.worktrack.dto.response.project.ProjectDeletionResponse;
 import com.worktrack.dto.response.project.ProjectResponse;
+import com.worktrack.dto.response.project.ProjectTaskStatsResponse;
 import com.worktrack.dto.response.user.UserResponse;
 import com.worktrack.entity.auth.User;
 import com.worktrack.entity.base.Status;
 import com.worktrack.entity.project.Project;
+import com.worktrack.entity.project.TaskStatus;
 import com.worktrack.exception.EntityNotFoundException;
 import com.worktrack.infra.observability.SpanNames;
 import com.worktrack.infra.retry.TransientDbRetry;
 import com.worktrack.mapper.ProjectResponseMapper;
 import com.worktrack.repo.ProjectRepository;
+import com.worktrack.repo.TaskRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
+import com.worktrack.repo.projection.ProjectView;
 import com.worktrack.security.auth.AuthenticationFacade;
 import com.worktrack.service.user.UserService;
+import com.worktrack.service.user.UserSnapshot;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class ProjectServiceImpl implements ProjectService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int CASCADE_DELETE_CHUNK_SIZE = 1000;
 
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
     private final UserService userService;
     private final AuthenticationFacade authenticationFacade;
 
     private final ProjectResponseMapper projectResponseMapper;
+    private final ProjectCountEstimator projectCountEstimator;
+    private final ProjectTaskStatsService projectTaskStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditorAware<String> auditorAware;
+    private final SoftDeleteFilter softDeleteFilter;
 
     public ProjectServiceImpl(ProjectRepository projectRepository,
+                              TaskRepository taskRepository,
                               UserService userService,
                               AuthenticationFacade authenticationFacade,
-                              ProjectResponseMapper projectResponseMapper) {
+                              ProjectResponseMapper projectResponseMapper,
+                              ProjectCountEstimator projectCountEstimator,
+                              ProjectTaskStatsService projectTaskStatsService,
+                              TransactionTemplate transactionTemplate,
+                              AuditorAware<String> auditorAware,
+                              SoftDeleteFilter softDeleteFilter) {
         this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
         this.userService = userService;
         this.authenticationFacade = authenticationFacade;
         this.projectResponseMapper = projectResponseMapper;
+        this.projectCountEstimator = projectCountEstimator;
+        this.projectTaskStatsService = projectTaskStatsService;
+        this.transactionTemplate = transactionTemplate;
+        this.auditorAware = auditorAware;
+        this.softDeleteFilter = softDeleteFilter;
     }
 
     @WithSpan(SpanNames.PROJECT_CREATE)
@@ -50,13 +85,16 @@ public class ProjectServiceImpl implements ProjectService {
         project.setName(request.name());
         project.setDescription(request.description());
 
-        User owner = null;
+        UserResponse ownerDto = null;
         if (request.ownerId() != null) {
-            owner = userService.findEntityByIdForced(request.ownerId());
-            project.setOwner(owner);
+            UserSnapshot owner = userService.findSnapshotByIdForced(request.ownerId());
+            project.setOwner(userService.getReference(owner));
+            ownerDto = userService.toDto(owner);
         }
         var createdProject = projectRepository.save(project);
-        return projectResponseMapper.toDto(createdProject, userService.toDto(owner));
+        projectCountEstimator.adjust(Status.ACTIVE, 1);
+        projectTaskStatsService.initialize(createdProject.getId());
+        return projectResponseMapper.toDto(createdProject, ownerDto, ProjectTaskStatsResponse.empty(createdProject.getId()));
     }
 
     @Override
@@ -64,15 +102,10 @@ public class ProjectServiceImpl implements ProjectService {
     @TransientDbRetry
     public List<ProjectResponse> getAllProjectsForCurrentUser() {
         var currentUser = authenticationFacade.getCurrentUserId();
-        return projectRepository.findAllActiveByOwnerIdWithOwner(currentUser)
-                .stream()
-                .map(project -> {
-                    var owner = project.getOwner(); // NOTE: This must be done inside the service layer.
-                                                    // If accessed in the controller, the session will be closed
-                                                    // and a LazyInitializationException will be thrown.
-                    UserResponse ownerDto = userService.toDto(owner);
-                    return projectResponseMapper.toDto(project, ownerDto);
-                })
+        List<ProjectView> projects = projectRepository.findAllActiveViewsByOwnerId(currentUser);
+        Map<Long, ProjectTaskStatsResponse> stats = projectTaskStatsService.getAll(projects.stream().map(ProjectView::id).toList());
+        return projects.stream()
+                .map(project -> toResponse(project, stats.get(project.id())))
                 .toList();
     }
 
@@ -80,16 +113,61 @@ public class ProjectServiceImpl implements ProjectService {
     @Transactional(readOnly = true)
     @TransientDbRetry
     public Page<ProjectResponse> getAllProjects(Pageable pageable) {
-        Page<Project> page = projectRepository.findAllActive(pageable);
+        Page<ProjectView> page = softDeleteFilter.includingDeleted(
+                () -> projectRepository.findAllViewsByStatusNot(Status.DELETED, pageable));
+        Map<Long, ProjectTaskStatsResponse> stats = projectTaskStatsService.getAll(page.map(ProjectView::id).getContent());
+        return page.map(project -> toResponse(project, stats.get(project.id())));
+    }
 
-        List<ProjectResponse> responses = page.getContent().stream()
-                .map(project -> {
-                    User owner = project.getOwner();
-                    return projectResponseMapper.toDto(project, userService.toDto(owner));
-                })
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    @TransientDbRetry
+    public SliceResponse<ProjectResponse> getProjectSlice(Pageable pageable, TotalCountMode totalCountMode) {
+        Slice<ProjectView> slice = softDeleteFilter.includingDeleted(
+                () -> projectRepository.findViewSliceByStatusNot(Status.DELETED, pageable));
+        Map<Long, ProjectTaskStatsResponse> stats = projectTaskStatsService.getAll(slice.map(ProjectView::id).getContent());
+        List<ProjectResponse> responses = slice.map(project -> toResponse(project, stats.get(project.id()))).getContent();
 
-        return new PageImpl<>(responses, pageable, page.getTotalElements());
+        Long total = switch (totalCountMode) {
+            case EXACT -> projectRepository.countActive();
+            case ESTIMATED -> estimatedTotal(slice);
+            case NONE -> null;
+        };
+        return new SliceResponse<>(responses, slice.getNumber(), slice.getSize(), slice.hasNext(), total, totalCountMode);
+    }
+
+    /**
+     * Never reports fewer rows than the client has provably seen, which a lagging estimate could.
+     */
+    private Long estimatedTotal(Slice<?> slice) {
+        Long estimate = projectCountEstimator.estimate(Status.ACTIVE);
+        if (estimate == null) {
+            return null;
+        }
+        long seen = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+        return Math.max(estimate, slice.hasNext() ? seen + 1 : seen);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @TransientDbRetry
+    public CursorPage<ProjectResponse> getProjectsAfter(String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        KeysetCursor after = (cursor != null && !cursor.isBlank()) ? KeysetCursor.decode(cursor) : null;
+
+        List<Project> rows = projectRepository.findActiveAfter(after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<Project> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<ProjectResponse> responses = toResponses(page);
+        String nextCursor = null;
+        if (hasNext) {
+            Project last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(responses, responses.size(), hasNext, nextCursor);
     }
 
 
@@ -115,7 +193,15 @@ public class ProjectServiceImpl implements ProjectService {
     public ProjectResponse getProjectById(Long id) {
         Project project = findByIdWithOwnerForced(id);
         User owner = project.getOwner();
-        return projectResponseMapper.toDto(project, userService.toDto(owner));
+        return projectResponseMapper.toDto(project, userService.toDto(owner), projectTaskStatsService.get(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @TransientDbRetry
+    public ProjectTaskStatsResponse getProjectTaskStats(Long id) {
+        findByIdForced(id);
+        return projectTaskStatsService.get(id);
     }
 
     @Override
@@ -123,5 +209,56 @@ public class ProjectServiceImpl implements ProjectService {
     public void deleteProject(Long id) {
         Project project = findByIdForced(id);
         project.setStatus(Status.DELETED);
+        projectCountEstimator.adjust(Status.ACTIVE, -1);
+        projectCountEstimator.adjust(Status.DELETED, 1);
+    }
+
+    /**
+     * Tasks go first so an interrupted run leaves the project visible and the delete can simply be
+     * repeated; a final sweep after the project is gone catches tasks created in the meantime. The
+     * task counters drop in each chunk's transaction, so they match the committed tasks at every step
+     * and reach zero with the sweep.
+     */
+    @Override
+    public ProjectDeletionResponse deleteProjectCascade(Long id) {
+        findByIdForced(id);
+        String actor = auditorAware.getCurrentAuditor().orElse("system");
+
+        long tasksDeleted = softDeleteTasks(id, actor);
+        transactionTemplate.executeWithoutResult(status -> deleteProject(id));
+        tasksDeleted += softDeleteTasks(id, actor);
+        return new ProjectDeletionResponse(id, tasksDeleted);
+    }
+
+    /**
+     * One short transaction per chunk keeps row locks and undo bounded, and never loads a task.
+     */
+    private long softDeleteTasks(Long projectId, String actor) {
+        long total = 0;
+        for (TaskStatus taskStatus : TaskStatus.values()) {
+            int affected;
+            do {
+                Integer chunk = transactionTemplate.execute(status -> {
+                    int deleted = taskRepository.softDeleteActiveChunkByProjectId(
+                            projectId, taskStatus, Instant.now(), actor, CASCADE_DELETE_CHUNK_SIZE);
+                    projectTaskStatsService.tasksDeleted(projectId, taskStatus, deleted);
+                    return deleted;
+                });
+                affected = (chunk != null) ? chunk : 0;
+                total += affected;
+            } while (affected == CASCADE_DELETE_CHUNK_SIZE);
+        }
+        return total;
+    }
+
+    private List<ProjectResponse> toResponses(List<Project> projects) {
+        Map<Long, ProjectTaskStatsResponse> stats = projectTaskStatsService.getAll(projects.stream().map(Project::getId).toList());
+        return projects.stream()
+                .map(project -> projectResponseMapper.toDto(project, userService.toDto(project.getOwner()), stats.get(project.getId())))
+                .toList();
+    }
+
+    private ProjectResponse toResponse(ProjectView project, ProjectTaskStatsResponse stats) {
+        return projectResponseMapper.toDto(project, userService.toDto(project.owner()), stats);
     }
 }
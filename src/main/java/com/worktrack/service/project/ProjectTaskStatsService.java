@@ -0,0 +1,117 @@
+package com.worktrack.service.project;
+
+import com.worktrack.dto.response.project.ProjectTaskStatsResponse;
+import com.worktrack.entity.project.ProjectTaskStats;
+import com.worktrack.entity.project.TaskStatus;
+import com.worktrack.repo.ProjectTaskStatsRepository;
+import com.worktrack.repo.TaskRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code project_task_stats} in step with task writes. Every update runs in the caller's
+ * transaction, so the counters commit or roll back together with the task change they describe.
+ */
+@Service
+public class ProjectTaskStatsService {
+    private final ProjectTaskStatsRepository statsRepository;
+    private final TaskRepository taskRepository;
+
+    public ProjectTaskStatsService(ProjectTaskStatsRepository statsRepository, TaskRepository taskRepository) {
+        this.statsRepository = statsRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    @Transactional
+    public void initialize(Long projectId) {
+        statsRepository.insertEmpty(projectId);
+    }
+
+    @Transactional
+    public void tasksCreated(Long projectId, long count) {
+        if (count > 0) {
+            apply(projectId, Map.of(TaskStatus.TODO, count));
+        }
+    }
+
+    @Transactional
+    public void taskDeleted(Long projectId, TaskStatus status) {
+        tasksDeleted(projectId, status, 1);
+    }
+
+    @Transactional
+    public void tasksDeleted(Long projectId, TaskStatus status, long count) {
+        if (count > 0) {
+            apply(projectId, Map.of(status, -count));
+        }
+    }
+
+    @Transactional
+    public void statusChanged(Long projectId, TaskStatus from, TaskStatus to) {
+        if (from == to) {
+            return;
+        }
+        apply(projectId, Map.of(from, -1L, to, 1L));
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectTaskStatsResponse get(Long projectId) {
+        return statsRepository.findById(projectId)
+                .map(ProjectTaskStatsService::toResponse)
+                .orElseGet(() -> toResponse(recount(projectId)));
+    }
+
+    /**
+     * One primary-key lookup for the whole page; projects without a row yet are recounted.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ProjectTaskStatsResponse> getAll(Collection<Long> projectIds) {
+        Map<Long, ProjectTaskStatsResponse> stats = statsRepository.findAllById(projectIds).stream()
+                .map(ProjectTaskStatsService::toResponse)
+                .collect(Collectors.toMap(ProjectTaskStatsResponse::projectId, Function.identity()));
+        for (Long projectId : projectIds) {
+            stats.computeIfAbsent(projectId, id -> toResponse(recount(id)));
+        }
+        return stats;
+    }
+
+    /**
+     * Projects created before the stats table have no row; they get one recounted from the tasks,
+     * which already include this change because the query flushes pending task writes first. Two
+     * first writers may both miss the row: the second one's insert turns into an increment.
+     */
+    private void apply(Long projectId, Map<TaskStatus, Long> deltas) {
+        long todo = deltas.getOrDefault(TaskStatus.TODO, 0L);
+        long inProgress = deltas.getOrDefault(TaskStatus.IN_PROGRESS, 0L);
+        long done = deltas.getOrDefault(TaskStatus.DONE, 0L);
+        int updated = statsRepository.increment(projectId, todo, inProgress, done);
+        if (updated == 0) {
+            ProjectTaskStats recount = recount(projectId);
+            statsRepository.insertOrIncrement(projectId,
+                    recount.getTodoCount(), recount.getInProgressCount(), recount.getDoneCount(),
+                    todo, inProgress, done);
+        }
+    }
+
+    private ProjectTaskStats recount(Long projectId) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (Object[] row : taskRepository.countActiveGroupedByTaskStatus(projectId)) {
+            counts.put((TaskStatus) row[0], (Long) row[1]);
+        }
+        return new ProjectTaskStats(projectId,
+                counts.getOrDefault(TaskStatus.TODO, 0L),
+                counts.getOrDefault(TaskStatus.IN_PROGRESS, 0L),
+                counts.getOrDefault(TaskStatus.DONE, 0L));
+    }
+
+    private static ProjectTaskStatsResponse toResponse(ProjectTaskStats stats) {
+        return new ProjectTaskStatsResponse(stats.getProjectId(),
+                stats.getTodoCount(), stats.getInProgressCount(), stats.getDoneCount());
+    }
+}
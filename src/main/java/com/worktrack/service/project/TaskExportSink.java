@@ -0,0 +1,18 @@
+package com.worktrack.service.project;
+
+import com.worktrack.dto.response.project.TaskResponse;
+
+import java.io.IOException;
+
+/**
+ * Receives an export one task at a time. {@link #begin()} is called only once the project has been
+ * found, so a sink may commit response headers there.
+ */
+public interface TaskExportSink {
+
+    void begin() throws IOException;
+
+    void write(TaskResponse task) throws IOException;
+
+    void end() throws IOException;
+}
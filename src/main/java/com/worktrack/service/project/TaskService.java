@@ -2,16 +2,25 @@ package com.worktrack.service.project;
 
 import com.worktrack.common.id.ProjectTaskKey;
 import com.worktrack.dto.request.project.AssignTaskRequest;
+import com.worktrack.dto.request.project.ChangeTaskStatusRequest;
 import com.worktrack.dto.request.project.CreateTaskRequest;
+import com.worktrack.dto.request.project.ReassignTasksRequest;
+import com.worktrack.dto.response.project.TaskBatchResponse;
+import com.worktrack.dto.response.project.TaskReassignResponse;
 import com.worktrack.dto.response.project.TaskResponse;
 import com.worktrack.entity.project.Task;
 
+import java.io.IOException;
 import java.util.List;
 
 public interface TaskService{
     TaskResponse createTask(Long projectId, CreateTaskRequest request);
+    TaskBatchResponse createTasks(Long projectId, List<CreateTaskRequest> requests);
     List<TaskResponse> getTasksByProject(Long projectId);
+    void exportTasksByProject(Long projectId, TaskExportSink sink) throws IOException;
     void deleteTask(ProjectTaskKey projectTaskKey);
     Task findByIdAndProjectIdForced(ProjectTaskKey projectTaskKey);
     TaskResponse assignTask(ProjectTaskKey projectTaskKey, AssignTaskRequest request);
+    TaskReassignResponse reassignTasks(Long projectId, ReassignTasksRequest request);
+    void changeStatus(ProjectTaskKey projectTaskKey, ChangeTaskStatusRequest request);
 }
@@ -2,38 +2,82 @@ package com.worktrack.service.project;
 
 import com.worktrack.common.id.ProjectTaskKey;
 import com.worktrack.dto.request.project.AssignTaskRequest;
+import com.worktrack.dto.request.project.ChangeTaskStatusRequest;
 import com.worktrack.dto.request.project.CreateTaskRequest;
+import com.worktrack.dto.request.project.ReassignTasksRequest;
+import com.worktrack.dto.response.project.TaskBatchItemResult;
+import com.worktrack.dto.response.project.TaskBatchResponse;
+import com.worktrack.dto.response.project.TaskReassignResponse;
 import com.worktrack.dto.response.project.TaskResponse;
+import com.worktrack.dto.response.project.TaskVersionConflict;
 import com.worktrack.dto.response.user.UserResponse;
 import com.worktrack.entity.auth.User;
+import com.worktrack.entity.base.BaseEntity;
 import com.worktrack.entity.base.Status;
 import com.worktrack.entity.project.Project;
 import com.worktrack.entity.project.Task;
+import com.worktrack.entity.project.TaskStatus;
 import com.worktrack.exception.EntityNotFoundException;
+import com.worktrack.exception.TaskStatusConflictException;
 import com.worktrack.infra.observability.SpanNames;
 import com.worktrack.infra.retry.TransientDbRetry;
 import com.worktrack.repo.TaskRepository;
+import com.worktrack.repo.projection.TaskVersionView;
+import com.worktrack.repo.projection.TaskView;
+import com.worktrack.repo.projection.UserView;
 import com.worktrack.service.user.UserService;
+import com.worktrack.service.user.UserSnapshot;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskServiceImpl implements TaskService {
+    /**
+     * Tasks persisted between flushes in a batch create; one JDBC batch ({@code hibernate.jdbc.batch_size}).
+     */
+    private static final int BATCH_FLUSH_SIZE = BaseEntity.ID_ALLOCATION_SIZE;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final ProjectService projectService;
     private final UserService userService;
+    private final EntityManager entityManager;
+    private final AuditorAware<String> auditorAware;
+    private final ProjectTaskStatsService projectTaskStatsService;
+    private final TransactionTemplate readOnlyTransaction;
 
     public TaskServiceImpl(TaskRepository taskRepository,
                            ProjectService projectService,
-                           UserService userService) {
+                           UserService userService,
+                           EntityManager entityManager,
+                           AuditorAware<String> auditorAware,
+                           ProjectTaskStatsService projectTaskStatsService,
+                           PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
         this.projectService = projectService;
         this.userService = userService;
-
-
+        this.entityManager = entityManager;
+        this.auditorAware = auditorAware;
+        this.projectTaskStatsService = projectTaskStatsService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @WithSpan(SpanNames.TASK_CREATE)
@@ -42,41 +86,159 @@ public class TaskServiceImpl implements TaskService {
 
         Project project = projectService.findByIdForced(projectId);
 
-        Task task = (request.assignedTo() != null)
-                ? createTaskWithAssignedUser(request, project)
-                : createTaskWithoutAssignedUser(request, project);
+        if (request.assignedTo() == null) {
+            return toResponse(createTaskWithoutAssignedUser(request, project));
+        }
+        UserSnapshot assignee = userService.findSnapshotByIdForced(request.assignedTo());
+        Task task = createTaskWithAssignedUser(request, project, userService.getReference(assignee));
+        return toResponse(task, userService.toDto(assignee));
+    }
+
+    /**
+     * Checks the project once and resolves every assignee with one query. Items with an unknown
+     * assignee are rejected individually; the others are inserted in JDBC batches, clearing the
+     * persistence context after each flush so memory stays flat for large imports.
+     */
+    @Override
+    @WithSpan(SpanNames.TASK_CREATE_BATCH)
+    @Transactional
+    public TaskBatchResponse createTasks(Long projectId, List<CreateTaskRequest> requests) {
+        Project project = projectService.findByIdForced(projectId);
 
-        return toResponse(task);
+        Set<Long> assigneeIds = requests.stream()
+                .map(CreateTaskRequest::assignedTo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, UserView> assignees = userService.findActiveViewsByIds(assigneeIds);
+        Map<Long, UserResponse> assigneeDtos = new HashMap<>();
+
+        List<TaskBatchItemResult> results = new ArrayList<>(requests.size());
+        int created = 0;
+        for (int index = 0; index < requests.size(); index++) {
+            CreateTaskRequest request = requests.get(index);
+            UserView assignee = null;
+            if (request.assignedTo() != null) {
+                assignee = assignees.get(request.assignedTo());
+                if (assignee == null) {
+                    results.add(TaskBatchItemResult.rejected(index, "User with id " + request.assignedTo() + " not found"));
+                    continue;
+                }
+            }
+
+            User assignedTo = (assignee != null) ? userService.getReference(assignee) : null;
+            Task task = taskRepository.save(new Task(request.title(), request.description(), project, assignedTo));
+            UserResponse assigneeDto = (assignee != null)
+                    ? assigneeDtos.computeIfAbsent(assignee.id(), id -> userService.toDto(assignees.get(id)))
+                    : null;
+            results.add(TaskBatchItemResult.created(index, toResponse(task, assigneeDto)));
+
+            if (++created % BATCH_FLUSH_SIZE == 0) {
+                taskRepository.flush();
+                entityManager.clear();
+                project = entityManager.getReference(Project.class, projectId);
+            }
+        }
+        projectTaskStatsService.tasksCreated(projectId, created);
+        return new TaskBatchResponse(created, requests.size() - created, results);
     }
 
-    private Task createTaskWithAssignedUser(CreateTaskRequest request, Project project) {
-        User assignedTo = userService.findEntityByIdForced(request.assignedTo());
+    private Task createTaskWithAssignedUser(CreateTaskRequest request, Project project, User assignedTo) {
         Task task = new Task(request.title(), request.description(), project, assignedTo);
         taskRepository.save(task);
+        projectTaskStatsService.tasksCreated(project.getId(), 1);
         return task;
     }
 
     private Task createTaskWithoutAssignedUser(CreateTaskRequest request, Project project) {
         Task task = new Task(request.title(), request.description(), project);
         taskRepository.save(task);
+        projectTaskStatsService.tasksCreated(project.getId(), 1);
         return task;
     }
 
     @Transactional
     public TaskResponse assignTask(ProjectTaskKey projectTaskKey, AssignTaskRequest request) {
         Task task = findByIdAndProjectIdForced(projectTaskKey);
-        User user = userService.findEntityByIdForced(request.userId());
-        task.assignTo(user);
+        UserSnapshot assignee = userService.findSnapshotByIdForced(request.userId());
+        task.assignTo(userService.getReference(assignee));
 
-        taskRepository.save(task);
-        return toResponse(task);
+        taskRepository.saveAndFlush(task); // flush so the response carries the incremented version
+        return toResponse(task, userService.toDto(assignee));
+    }
+
+    /**
+     * Locks the selected rows, decides each outcome from the locked versions, then assigns the matched ones
+     * with one UPDATE per chunk. Explicit selections are bounded by {@link ReassignTasksRequest#MAX_TASKS};
+     * in {@code fromUserId} mode the user's tasks are locked and moved {@code MAX_TASKS} at a time.
+     */
+    @Override
+    @Transactional
+    public TaskReassignResponse reassignTasks(Long projectId, ReassignTasksRequest request) {
+        projectService.findByIdForced(projectId);
+        UserSnapshot assignee = userService.findSnapshotByIdForced(request.toUserId());
+        String actor = auditorAware.getCurrentAuditor().orElse("system");
+        Instant now = Instant.now();
+
+        List<Long> updated = new ArrayList<>();
+        List<TaskVersionConflict> conflicts = new ArrayList<>();
+        if (request.fromUserId() != null) {
+            Long afterId = 0L;
+            List<TaskVersionView> chunk;
+            do {
+                chunk = taskRepository.lockActiveVersionsByAssignee(
+                        projectId, request.fromUserId(), afterId, ReassignTasksRequest.MAX_TASKS);
+                List<Long> ids = chunk.stream().map(TaskVersionView::id).toList();
+                taskRepository.reassign(projectId, ids, assignee.id(), now, actor);
+                updated.addAll(ids);
+                if (!ids.isEmpty()) {
+                    afterId = ids.getLast();
+                }
+            } while (chunk.size() == ReassignTasksRequest.MAX_TASKS);
+        } else {
+            Map<Long, Integer> expectedVersions = new LinkedHashMap<>();
+            request.tasks().forEach(task -> expectedVersions.put(task.taskId(), task.version()));
+            Map<Long, Integer> lockedVersions = taskRepository.lockActiveVersionsByIds(projectId, expectedVersions.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(TaskVersionView::id, TaskVersionView::version));
+            expectedVersions.forEach((taskId, expectedVersion) -> {
+                Integer current = lockedVersions.get(taskId);
+                if (expectedVersion.equals(current)) {
+                    updated.add(taskId);
+                } else {
+                    conflicts.add(new TaskVersionConflict(taskId, expectedVersion, current));
+                }
+            });
+            taskRepository.reassign(projectId, updated, assignee.id(), now, actor);
+        }
+        return new TaskReassignResponse(assignee.id(), updated, conflicts);
+    }
+
+    /**
+     * The happy path is the single conditional UPDATE; only a miss pays for the lookup that tells a
+     * missing task (404) from one that has already moved (409).
+     */
+    @Override
+    @Transactional
+    public void changeStatus(ProjectTaskKey projectTaskKey, ChangeTaskStatusRequest request) {
+        Long taskId = projectTaskKey.taskId().value();
+        Long projectId = projectTaskKey.projectId().value();
+        String actor = auditorAware.getCurrentAuditor().orElse("system");
+
+        int updated = taskRepository.transitionActiveStatus(taskId, projectId, request.from(), request.to(), Instant.now(), actor);
+        if (updated == 1) {
+            projectTaskStatsService.statusChanged(projectId, request.from(), request.to());
+            return;
+        }
+        TaskStatus current = taskRepository.findActiveTaskStatus(taskId, projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Task with " + taskId + " and ProjectId " + projectId + " not found"));
+        throw new TaskStatusConflictException("Task " + taskId + " is " + current + ", not " + request.from());
     }
 
     @Override
     @Transactional(readOnly = true)
     @TransientDbRetry
     public Task findByIdAndProjectIdForced(ProjectTaskKey projectTaskKey) {
-        return taskRepository.findByIdAndProjectIdAndStatusNot(projectTaskKey.taskId().value(), projectTaskKey.projectId().value(), Status.DELETED)
+        return taskRepository.findActiveByIdAndProjectId(projectTaskKey.taskId().value(), projectTaskKey.projectId().value())
                 .orElseThrow(() ->
                         new EntityNotFoundException("Task with " + projectTaskKey.taskId().value() +
                                 " and ProjectId " + projectTaskKey.projectId().value() + " not found")
@@ -87,33 +249,74 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     @TransientDbRetry
     public List<TaskResponse> getTasksByProject(Long projectId) {
-        return taskRepository.findAllActivesByProjectId(projectId)
+        return taskRepository.findAllActiveViewsByProjectId(projectId)
                 .stream()
                 .map(this::toResponse)
                 .toList();
     }
 
+    /**
+     * Writes the project's active tasks into {@code sink} page by page. Each page is read in its own
+     * short read-only transaction and written after it ends, so a slow client never holds a pooled
+     * connection; tasks changed while the export runs may or may not be included.
+     */
+    @Override
+    public void exportTasksByProject(Long projectId, TaskExportSink sink) throws IOException {
+        projectService.findByIdForced(projectId);
+        sink.begin();
+        Long afterId = 0L;
+        List<TaskView> page;
+        do {
+            Long after = afterId;
+            page = readOnlyTransaction.execute(tx -> taskRepository.findActiveViewsByProjectIdAfter(
+                    projectId, after, PageRequest.of(0, EXPORT_PAGE_SIZE)));
+            for (TaskView task : page) {
+                sink.write(toResponse(task));
+            }
+            if (!page.isEmpty()) {
+                afterId = page.getLast().id();
+            }
+        } while (page.size() == EXPORT_PAGE_SIZE);
+        sink.end();
+    }
+
     @Transactional
     public void deleteTask(ProjectTaskKey projectTaskKey) {
         Task task = findByIdAndProjectIdForced(projectTaskKey);
         task.setStatus(Status.DELETED);
         taskRepository.save(task);  // NOTE: Due to Hibernate dirty checking, calling save() here is not required.
                                     // The entity will be automatically updated when the transaction is committed.
+        projectTaskStatsService.taskDeleted(projectTaskKey.projectId().value(), task.getTaskStatus());
     }
 
 
 
+    private TaskResponse toResponse(TaskView task) {
+        return new TaskResponse(
+                task.id(),
+                task.title(),
+                task.description(),
+                task.taskStatus().name(),
+                userService.toDto(task.assignee()),
+                task.version()
+        );
+    }
+
     private TaskResponse toResponse(Task task) {
         UserResponse userResponse = (task.getAssignedTo() != null)
                 ? userService.toDto(task.getAssignedTo())
                 : null;
+        return toResponse(task, userResponse);
+    }
 
+    private TaskResponse toResponse(Task task, UserResponse userResponse) {
         return new TaskResponse(
                 task.getId(),
                 task.getTitle(),
                 task.getDescription(),
                 task.getTaskStatus().name(),
-                userResponse
+                userResponse,
+                task.getVersion()
         );
     }
 }
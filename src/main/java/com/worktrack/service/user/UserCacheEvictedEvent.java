@@ -0,0 +1,8 @@
+package com.worktrack.service.user;
+
+/**
+ * Published whenever the cached view of a user is evicted (delete, update, role change),
+ * so in-process caches derived from it can drop their entries as well.
+ */
+public record UserCacheEvictedEvent(Long userId, String username) {
+}
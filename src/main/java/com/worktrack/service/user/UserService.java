@@ -6,8 +6,11 @@ import com.worktrack.dto.request.user.UpdateUserRequest;
 import com.worktrack.dto.response.user.UserResponse;
 import com.worktrack.entity.auth.Role;
 import com.worktrack.entity.auth.User;
+import com.worktrack.repo.projection.UserView;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserService {
@@ -23,6 +26,8 @@ public interface UserService {
 
     Optional<User> findByUsername(String username);
 
+    Optional<UserSnapshot> findSnapshotByUsername(String username);
+
     List<UserResponse> findAll();
 
     void deleteUser(Long id);
@@ -33,7 +38,32 @@ public interface UserService {
 
     User findEntityByIdForced(Long id);
 
+    UserSnapshot findSnapshotByIdForced(Long id);
+
+    /**
+     * Unloaded reference to an already resolved user, for setting associations without a select.
+     */
+    User getReference(UserSnapshot snapshot);
+
+    User getReference(UserView view);
+
+    /**
+     * Active users among {@code ids} in a single query, keyed by id; unknown or deleted ids are absent.
+     */
+    Map<Long, UserView> findActiveViewsByIds(Collection<Long> ids);
+
+    /**
+     * Puts the snapshot of a freshly authenticated user into both user caches.
+     */
+    void cacheSnapshot(User user);
+
+    Optional<Integer> findActiveTokenVersion(Long id);
+
     UserResponse toDto(User user);
 
+    UserResponse toDto(UserSnapshot snapshot);
+
+    UserResponse toDto(UserView view);
+
     List<UserResponse> search(SearchUserRequest request);
 }
@@ -10,18 +10,24 @@ import com.worktrack.entity.base.Status;
 import com.worktrack.exception.EntityNotFoundException;
 import com.worktrack.exception.user.DuplicateUserException;
 import com.worktrack.infra.cache.CacheNames;
+import com.worktrack.infra.db.PrimaryReads;
 import com.worktrack.infra.retry.TransientDbRetry;
 import com.worktrack.mapper.UserResponseMapper;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
 import com.worktrack.repo.specification.Spec;
+import com.worktrack.repo.projection.UserView;
 import com.worktrack.repo.user.UserRepository;
 import com.worktrack.repo.user.specification.UserSpecifications;
+import com.worktrack.security.policy.UserPolicy.Action;
+import com.worktrack.security.policy.UserPolicyCheck;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -29,8 +35,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 
@@ -42,14 +52,20 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     private final PasswordEncoder passwordEncoder;
     private final UserResponseMapper userResponseMapper;
     private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SoftDeleteFilter softDeleteFilter;
 
     public UserServiceImpl(UserRepository userRepository,
                            PasswordEncoder passwordEncoder,
-                           UserResponseMapper userMapper, CacheManager cacheManager) {
+                           UserResponseMapper userMapper, CacheManager cacheManager,
+                           ApplicationEventPublisher eventPublisher,
+                           SoftDeleteFilter softDeleteFilter) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.userResponseMapper = userMapper;
         this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.softDeleteFilter = softDeleteFilter;
     }
 
     @Transactional
@@ -62,10 +78,10 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     }
 
     private void validateRegistrationRequest(RegisterUserRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
+        if (existsByEmail(request.email())) {
             throw new DuplicateUserException("Email already registered");
         }
-        if (userRepository.existsByUsername(request.username())) {
+        if (existsByUsername(request.username())) {
             throw new DuplicateUserException("Username already registered");
         }
     }
@@ -75,28 +91,30 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     }
 
 
-    private Optional<UserResponse> findById(Long id) {
-        return userRepository.findActiveById(id).map(userResponseMapper::toDto);
+    @Transactional(readOnly = true)
+    @TransientDbRetry
+    public Optional<User> findByUsername(String username) {
+        return PrimaryReads.require(() -> userRepository.findActiveByUsername(username));
     }
 
-    @Cacheable(cacheNames = CacheNames.USERS_BY_USERNAME,
-            key = "#username",
-            unless = "#result == null")
+    @Override
+    @Cacheable(cacheNames = CacheNames.USERS_BY_USERNAME, key = "#username", sync = true)
+    @Transactional(readOnly = true)
     @TransientDbRetry
-    public Optional<User> findByUsername(String username) {
-        return userRepository.findActiveByUsername(username);
+    public Optional<UserSnapshot> findSnapshotByUsername(String username) {
+        return PrimaryReads.require(() -> userRepository.findActiveByUsername(username).map(UserSnapshot::from));
     }
 
 
     @Transactional(readOnly = true)
-    @PreAuthorize("@userPolicy.canListUsers()")
+    @UserPolicyCheck(Action.LIST_USERS)
     @TransientDbRetry
     public List<UserResponse> findAll() {
         return userRepository.findAllActives().stream().map(userResponseMapper::toDto).toList();
     }
 
     @Transactional(readOnly = true)
-    @PreAuthorize("@userPolicy.canListUsersByRole()")
+    @UserPolicyCheck(Action.LIST_USERS_BY_ROLE)
     @TransientDbRetry
     public List<UserResponse> findAllByRole(Role role) {
         return userRepository.findAllActiveByRole(role).stream().map(userResponseMapper::toDto).toList();
@@ -105,52 +123,75 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     @Transactional(readOnly = true)
     @TransientDbRetry
     public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        // Deleted users keep their username; the unique constraint still covers them.
+        return softDeleteFilter.includingDeleted(() -> userRepository.existsByUsername(username));
     }
 
     @Transactional(readOnly = true)
     @TransientDbRetry
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return softDeleteFilter.includingDeleted(() -> userRepository.existsByEmail(email));
     }
 
     @Transactional
-    @PreAuthorize("@userPolicy.canDeleteUser(#id)")
+    @UserPolicyCheck(Action.DELETE_USER)
     public void deleteUser(Long id) {
         User user = findEntityByIdForced(id);
         user.setStatus(Status.DELETED);
-        String username = user.getUsername();
+        user.revokeTokens();
 
-        clearUserCache(username);
+        clearUserCache(user);
         userRepository.save(user);
     }
 
-    private void clearUserCache(String username) {
-        var byUsername = cacheManager.getCache(CacheNames.USERS_BY_USERNAME);
-        if (byUsername == null) {
+    private void clearUserCache(User user) {
+        String username = user.getUsername();
+        eventPublisher.publishEvent(new UserCacheEvictedEvent(user.getId(), username));
+        evictQuietly(CacheNames.USERS_BY_USERNAME, username);
+        evictQuietly(CacheNames.USERS_BY_ID, user.getId());
+    }
+
+    private void evictQuietly(String cacheName, Object key) {
+        var cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
             return;
         }
         try {
-            byUsername.evict(username);
+            cache.evict(key);
         } catch (RuntimeException ex) {
             logger.warn("Cache EVICT skipped for cache={} key={} cause={}",
-                    CacheNames.USERS_BY_USERNAME, username, ex.getMessage());
+                    cacheName, key, ex.getMessage());
+        }
+    }
+
+    private void putQuietly(String cacheName, Object key, UserSnapshot snapshot) {
+        var cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.put(key, snapshot);
+        } catch (RuntimeException ex) {
+            logger.warn("Cache PUT skipped for cache={} key={} cause={}",
+                    cacheName, key, ex.getMessage());
         }
     }
 
     @Transactional
-    @PreAuthorize("@userPolicy.canUpdateUser(#id)")
+    @UserPolicyCheck(Action.UPDATE_USER)
     public UserResponse update(Long id, UpdateUserRequest request) {
         User user = findEntityByIdForced(id);
-        clearUserCache(user.getUsername());
+        clearUserCache(user);
         if (request.username() != null) {
             user.setUsername(request.username());
+            user.revokeTokens();
         }
         if (request.email() != null) {
             user.setEmail(request.email());
         }
         if (request.password() != null) {
             user.setPassword(getEncodedPassword(request.password()));
+            user.revokeTokens();
         }
         if (request.fullName() != null) {
             user.setFullName(request.fullName());
@@ -161,24 +202,85 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     }
 
     @Transactional
-    @PreAuthorize("@userPolicy.canAssignRole()")
+    @UserPolicyCheck(Action.ASSIGN_ROLE)
     public UserResponse assignRole(Long id, Role role) {
         User user = findEntityByIdForced(id);
-        clearUserCache(user.getUsername());
+        clearUserCache(user);
         user.setRole(role);
+        user.revokeTokens();
         userRepository.save(user);
         return userResponseMapper.toDto(user);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @PreAuthorize("@userPolicy.canReadUser(#id)")
+    @UserPolicyCheck(Action.READ_USER)
     @TransientDbRetry
     public UserResponse findByIdForced(Long id) {
-        return this.findById(id)
+        return userResponseMapper.toDto(findSnapshotByIdForced(id));
+    }
+
+    /**
+     * Id-keyed counterpart of {@link #findSnapshotByUsername}. Looked up programmatically rather than
+     * through {@code @Cacheable} so that {@link #findByIdForced} gets the cache on a self-call too;
+     * {@link Cache#get(Object, java.util.concurrent.Callable)} gives it the same single-flight loading as {@code sync = true}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @TransientDbRetry
+    public UserSnapshot findSnapshotByIdForced(Long id) {
+        var cache = cacheManager.getCache(CacheNames.USERS_BY_ID);
+        if (cache == null) {
+            return loadSnapshot(id);
+        }
+        try {
+            return cache.get(id, () -> loadSnapshot(id));
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        } catch (RuntimeException ex) {
+            logger.warn("Cache GET skipped for cache={} key={} cause={}",
+                    CacheNames.USERS_BY_ID, id, ex.getMessage());
+            return loadSnapshot(id);
+        }
+    }
+
+    private UserSnapshot loadSnapshot(Long id) {
+        return PrimaryReads.require(() -> userRepository.findActiveById(id))
+                .map(UserSnapshot::from)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
     }
 
+    @Override
+    public User getReference(UserSnapshot snapshot) {
+        return userRepository.getReferenceById(snapshot.id());
+    }
+
+    @Override
+    public User getReference(UserView view) {
+        return userRepository.getReferenceById(view.id());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @TransientDbRetry
+    public Map<Long, UserView> findActiveViewsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findActiveViewsByIds(ids).stream()
+                .collect(Collectors.toMap(UserView::id, Function.identity()));
+    }
+
+    @Override
+    public void cacheSnapshot(User user) {
+        var snapshot = UserSnapshot.from(user);
+        putQuietly(CacheNames.USERS_BY_USERNAME, user.getUsername(), snapshot);
+        putQuietly(CacheNames.USERS_BY_ID, user.getId(), snapshot);
+    }
+
     @Override
     @TransientDbRetry
     public User findEntityByIdForced(Long id) {
@@ -186,10 +288,17 @@ public class UserServiceImpl implements UserService, UserDetailsService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @TransientDbRetry
+    public Optional<Integer> findActiveTokenVersion(Long id) {
+        return PrimaryReads.require(() -> userRepository.findActiveTokenVersionById(id));
+    }
+
     @Override
     @TransientDbRetry
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findActiveByUsername(username)
+        return PrimaryReads.require(() -> userRepository.findActiveByUsername(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
@@ -197,15 +306,22 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         return (user != null) ? userResponseMapper.toDto(user) : null;
     }
 
+    public UserResponse toDto(UserSnapshot snapshot) {
+        return userResponseMapper.toDto(snapshot);
+    }
+
+    public UserResponse toDto(@Nullable UserView view) {
+        return (view != null) ? userResponseMapper.toDto(view) : null;
+    }
+
     @Transactional(readOnly = true)
-    @PreAuthorize("@userPolicy.canSearchUsers()")
+    @UserPolicyCheck(Action.SEARCH_USERS)
     @TransientDbRetry
     public List<UserResponse> search(SearchUserRequest request) {
         Specification<User> spec = Spec.and(
                 Spec.whenNotBlank(request.fullName(), UserSpecifications::fullNameContains),
                 Spec.whenNotNull(request.role(), UserSpecifications::hasRole),
-                Spec.whenNotBlank(request.email(), UserSpecifications::hasEmail),
-                UserSpecifications.hasStatus(Status.ACTIVE)
+                Spec.whenNotBlank(request.email(), UserSpecifications::hasEmail)
         );
 
         return userRepository.findAll(spec)
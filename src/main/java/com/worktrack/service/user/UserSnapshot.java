@@ -0,0 +1,33 @@
+package com.worktrack.service.user;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.auth.User;
+
+/**
+ * Cached, read-only view of an active user. Deliberately carries no password hash and no
+ * timestamps, so it can be shared across requests and stored in Redis without the entity.
+ */
+public record UserSnapshot(
+        Long id,
+        String username,
+        String email,
+        String fullName,
+        Role role,
+        int tokenVersion,
+        String createdBy,
+        String updatedBy
+) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getFullName(),
+                user.getRole(),
+                user.getTokenVersion(),
+                user.getCreatedBy(),
+                user.getUpdatedBy()
+        );
+    }
+}
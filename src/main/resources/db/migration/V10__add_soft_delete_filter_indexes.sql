@@ -0,0 +1,13 @@
+-- The NOT_DELETED filter appends "status IN (...)" to every read, an equality MySQL can seek on when
+-- status follows the column the query selects by. InnoDB secondary indexes end with the primary key.
+CREATE INDEX idx_project_owner_id_status ON project(owner_id, status);
+DROP INDEX idx_project_owner_id ON project;
+
+CREATE INDEX idx_users_role_status ON users(role, status);
+
+-- Redundant with idx_task_project_id_status, which also backs the foreign key.
+DROP INDEX idx_task_project_id ON task;
+
+-- Two values, never selective on their own once every query carries the filter.
+DROP INDEX idx_users_status ON users;
+DROP INDEX idx_task_status ON task;
@@ -0,0 +1,13 @@
+-- One index per repository query shape; QueryPlanIntegrationTest runs EXPLAIN on every read query.
+-- project(owner_id, status) from V10 already ends in id, as every InnoDB secondary index does.
+
+-- Paged listings: status from the NOT_DELETED filter, ordered by id.
+CREATE INDEX idx_project_status_id ON project(status, id);
+
+-- Per-project task counts group by task_status without touching the rows. Replaces
+-- idx_task_project_id_status, which it also covers for the foreign key.
+CREATE INDEX idx_task_project_id_status_task_status ON task(project_id, status, task_status);
+DROP INDEX idx_task_project_id_status ON task;
+
+-- Reassignment selects a user's tasks.
+CREATE INDEX idx_task_assigned_to_user_id_status ON task(assigned_to_user_id, status);
@@ -0,0 +1,5 @@
+-- Keyset pagination seeks on (created_at, id) within a status; the leading status column
+-- still serves the status-only lookups that idx_project_status was used for.
+CREATE INDEX idx_project_status_created_at_id ON project(status, created_at, id);
+
+DROP INDEX idx_project_status ON project;
@@ -0,0 +1,46 @@
+-- Pooled-lo id allocation for all entities (see BaseEntity): each instance reserves a block of ids
+-- with one UPDATE and assigns them in memory, so inserts no longer need AUTO_INCREMENT and can be batched.
+-- One segment shared by every table keeps the row count fixed; ids stay unique across tables.
+CREATE TABLE id_generator (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+-- During a rolling deploy, pods of the previous build keep inserting through AUTO_INCREMENT while new
+-- pods insert ids reserved here, and an explicit id above a table's counter moves the counter past it.
+-- The two must therefore never share a range:
+--   * the generator starts 1,000,000 above every existing id, which covers rows the old pods insert
+--     while this migration runs;
+--   * each table's AUTO_INCREMENT jumps 1,000,000,000 further, so old pods take ids from a range the
+--     generator does not reach during the deploy, and reserved but unused blocks are never handed out twice.
+-- The AUTO_INCREMENT attribute itself stays until no pod of the previous build is left. It must be
+-- dropped by a migration shipped in a later release, which also moves next_val past MAX(id) so the
+-- generator never reaches the ids old pods took; shipped with this one it would run mid-deploy.
+SET @generator_start = (
+    SELECT COALESCE(MAX(id), 0) + 1000000
+    FROM (
+        SELECT id FROM users
+        UNION ALL
+        SELECT id FROM project
+        UNION ALL
+        SELECT id FROM task
+    ) existing_ids
+);
+SET @legacy_auto_increment = @generator_start + 1000000000;
+
+INSERT INTO id_generator (sequence_name, next_val) VALUES ('entity_id', @generator_start);
+
+SET @alter_users = CONCAT('ALTER TABLE users AUTO_INCREMENT = ', @legacy_auto_increment);
+PREPARE alter_users FROM @alter_users;
+EXECUTE alter_users;
+DEALLOCATE PREPARE alter_users;
+
+SET @alter_project = CONCAT('ALTER TABLE project AUTO_INCREMENT = ', @legacy_auto_increment);
+PREPARE alter_project FROM @alter_project;
+EXECUTE alter_project;
+DEALLOCATE PREPARE alter_project;
+
+SET @alter_task = CONCAT('ALTER TABLE task AUTO_INCREMENT = ', @legacy_auto_increment);
+PREPARE alter_task FROM @alter_task;
+EXECUTE alter_task;
+DEALLOCATE PREPARE alter_task;
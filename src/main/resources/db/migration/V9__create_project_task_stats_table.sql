@@ -0,0 +1,18 @@
+-- Active task counts per project and task status, kept in step with task writes so dashboards read
+-- one row instead of counting tasks. Rows go away with their project.
+CREATE TABLE project_task_stats (
+    project_id BIGINT NOT NULL PRIMARY KEY,
+    todo_count BIGINT NOT NULL DEFAULT 0,
+    in_progress_count BIGINT NOT NULL DEFAULT 0,
+    done_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_project_task_stats_project_id FOREIGN KEY (project_id) REFERENCES project(id) ON DELETE CASCADE
+);
+
+INSERT INTO project_task_stats (project_id, todo_count, in_progress_count, done_count)
+SELECT p.id,
+       SUM(CASE WHEN t.task_status = 'TODO' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.task_status = 'IN_PROGRESS' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.task_status = 'DONE' THEN 1 ELSE 0 END)
+FROM project p
+LEFT JOIN task t ON t.project_id = p.id AND t.status <> 'DELETED'
+GROUP BY p.id;
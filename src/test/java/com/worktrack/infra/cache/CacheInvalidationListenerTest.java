@@ -0,0 +1,44 @@
+package com.worktrack.infra.cache;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+public class CacheInvalidationListenerTest {
+
+    private final CacheManager cacheManager = mock(CacheManager.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final CacheInvalidationListener listener =
+            new CacheInvalidationListener(cacheManager, "local", eventPublisher);
+
+    @Test
+    @DisplayName("Second-level cache evictions from another instance should be republished locally")
+    void shouldRepublishRemoteEntityEviction() {
+        listener.onMessage(message("H|remote|com.worktrack.entity.project.Project|42"), null);
+
+        verify(eventPublisher).publishEvent(
+                new RemoteEntityEvictionEvent("com.worktrack.entity.project.Project", "42"));
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    @DisplayName("Second-level cache evictions published by this instance should be skipped")
+    void shouldSkipOwnEntityEviction() {
+        listener.onMessage(message("H|local|com.worktrack.entity.project.Project|42"), null);
+
+        verifyNoInteractions(eventPublisher, cacheManager);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
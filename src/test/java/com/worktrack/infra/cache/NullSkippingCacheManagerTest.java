@@ -0,0 +1,55 @@
+package com.worktrack.infra.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+public class NullSkippingCacheManagerTest {
+
+    private final ConcurrentMapCacheManager remote = nullRejectingManager();
+    private final NullSkippingCacheManager manager = new NullSkippingCacheManager(remote);
+
+    /**
+     * Same as the Redis caches: a null value is rejected.
+     */
+    private static ConcurrentMapCacheManager nullRejectingManager() {
+        var manager = new ConcurrentMapCacheManager("users");
+        manager.setAllowNullValues(false);
+        return manager;
+    }
+
+    @Test
+    @DisplayName("A loader returning null should yield null without being stored")
+    void shouldReturnNullLoaderResultUncached() {
+        Cache cache = manager.getCache("users");
+        var loads = new AtomicInteger();
+
+        assertNull(cache.get("ghost", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("ghost", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+
+        assertEquals(2, loads.get());
+        assertNull(remote.getCache("users").get("ghost"));
+    }
+
+    @Test
+    @DisplayName("Non-null loader results should be cached by the delegate")
+    void shouldCacheLoadedValue() {
+        Cache cache = manager.getCache("users");
+
+        assertEquals("snapshot", cache.get("alice", () -> "snapshot"));
+        assertEquals("snapshot", cache.get("alice", () -> "other"));
+        assertEquals("snapshot", remote.getCache("users").get("alice").get());
+    }
+}
@@ -0,0 +1,96 @@
+package com.worktrack.infra.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TwoTierCacheTest {
+
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("users");
+    private final CacheInvalidationPublisher publisher = mock(CacheInvalidationPublisher.class);
+    private final TwoTierCache cache = new TwoTierCache(
+            "users",
+            Caffeine.newBuilder().<String, TwoTierCache.LocalEntry>build(),
+            remote,
+            publisher,
+            mock(RedisLoadCoordinator.class),
+            new CacheStampedeProperties(0.1, false, 1.0, false, Duration.ofSeconds(5), Duration.ofSeconds(1)),
+            new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Concurrent misses for one key should call the loader once")
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> cache.get("alice", () -> {
+                    loads.incrementAndGet();
+                    release.await(1, TimeUnit.SECONDS);
+                    return "snapshot";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("snapshot", result.get(2, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals("snapshot", remote.get("alice").get());
+    }
+
+    @Test
+    @DisplayName("A value already in Redis should be used without calling the loader")
+    void shouldPreferRemoteValueOverLoader() {
+        remote.put("bob", "from-redis");
+
+        String value = cache.get("bob", () -> "from-db");
+
+        assertEquals("from-redis", value);
+    }
+
+    @Test
+    @DisplayName("Missing values should not be cached in either tier")
+    void shouldNotCacheNull() {
+        assertNull(cache.get("ghost", () -> null));
+        assertNull(remote.get("ghost"));
+        assertNull(cache.get("ghost", String.class));
+    }
+
+    @Test
+    @DisplayName("Evict should drop both tiers and broadcast the key")
+    void shouldEvictBothTiersAndBroadcast() {
+        cache.get("carol", () -> "v1");
+
+        cache.evict("carol");
+
+        assertNull(remote.get("carol"));
+        assertEquals("v2", cache.get("carol", () -> "v2"));
+        verify(publisher).publishEvict("users", "carol");
+    }
+}
@@ -0,0 +1,80 @@
+package com.worktrack.infra.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.service.user.UserSnapshot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class UserSnapshotRedisSerializerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserSnapshotRedisSerializer serializer = new UserSnapshotRedisSerializer(meterRegistry, "users");
+
+    @Test
+    @DisplayName("Snapshot should survive a round trip, including null fields")
+    void shouldRoundTrip() {
+        var snapshot = new UserSnapshot(42L, "codecUser", "codec@test.com", "Codec User", Role.ADMIN, 3, "system", null);
+
+        byte[] bytes = serializer.serialize(snapshot);
+
+        assertEquals(snapshot, serializer.deserialize(bytes));
+        assertEquals(1, meterRegistry.get("cache.serializer.size").summary().count());
+        assertEquals(bytes.length, meterRegistry.get("cache.serializer.size").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Reader should ignore fields appended by a newer writer")
+    void shouldIgnoreUnknownTrailingFields() throws IOException {
+        var snapshot = new UserSnapshot(7L, "newer", "newer@test.com", "Newer", Role.EMPLOYEE, 1, null, null);
+        byte[] current = serializer.serialize(snapshot);
+
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        out.write(current);
+        out.writeBoolean(true);
+        out.writeUTF("field added later");
+        byte[] newer = bytes.toByteArray();
+        newer[1] = (byte) (current[1] + 1);
+
+        assertEquals(snapshot, serializer.deserialize(newer));
+    }
+
+    @Test
+    @DisplayName("Fields missing from an older payload should get defaults")
+    void shouldDefaultMissingFields() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        out.writeByte(UserSnapshotRedisSerializer.FORMAT_VERSION);
+        out.writeByte(2);
+        out.writeBoolean(true);
+        out.writeLong(9L);
+        out.writeBoolean(true);
+        out.writeUTF("older");
+
+        var snapshot = serializer.deserialize(bytes.toByteArray());
+
+        assertEquals(new UserSnapshot(9L, "older", null, null, null, 0, null, null), snapshot);
+    }
+
+    @Test
+    @DisplayName("JSON written by the previous serializer should be rejected, not misread")
+    void shouldRejectUnknownFormat() {
+        byte[] json = "{\"@class\":\"com.worktrack.entity.auth.User\"}".getBytes(StandardCharsets.UTF_8);
+
+        var ex = assertThrows(SerializationException.class, () -> serializer.deserialize(json));
+        assertTrue(ex.getMessage().contains("version"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.worktrack.infra.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PoolSizeAdvisorTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ConnectionUsageRecorder recorder =
+            new ConnectionUsageRecorder(TimeUnit.MILLISECONDS.toNanos(5), nanos::get);
+    private final HikariConfigMXBean pool = mock(HikariConfigMXBean.class);
+    private final AtomicInteger maximumPoolSize = new AtomicInteger(200);
+
+    @BeforeEach
+    void setUp() {
+        when(pool.getMaximumPoolSize()).thenAnswer(invocation -> maximumPoolSize.get());
+        when(pool.getMinimumIdle()).thenReturn(5);
+        doAnswer(invocation -> {
+            maximumPoolSize.set(invocation.getArgument(0));
+            return null;
+        }).when(pool).setMaximumPoolSize(anyInt());
+    }
+
+    @Test
+    @DisplayName("The recommendation should be the observed peak plus headroom, within bounds")
+    void shouldRecommendPeakPlusHeadroom() {
+        PoolSizeAdvisor advisor = advisor(false, 3);
+
+        useConnections(12, Duration.ofMillis(50));
+        PoolSizeAdvisor.Recommendation recommendation = advisor.evaluate();
+
+        assertEquals(15, recommendation.recommendedMaximumPoolSize());
+        assertEquals(12, recommendation.peakInUse());
+        assertEquals(200, recommendation.maximumPoolSize());
+        assertFalse(recommendation.applied());
+        verify(pool, never()).setMaximumPoolSize(anyInt());
+    }
+
+    @Test
+    @DisplayName("An idle pool should be recommended at the lower bound")
+    void shouldRecommendMinimumWhenIdle() {
+        PoolSizeAdvisor advisor = advisor(false, 3);
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        assertEquals(4, advisor.evaluate().recommendedMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("Applying should shrink the pool in steps, and only after a full history")
+    void shouldShrinkInStepsAfterFullHistory() {
+        PoolSizeAdvisor advisor = advisor(true, 3);
+
+        useConnections(12, Duration.ofMillis(50));
+        assertFalse(advisor.evaluate().applied());
+        useConnections(12, Duration.ofMillis(50));
+        assertFalse(advisor.evaluate().applied());
+        useConnections(12, Duration.ofMillis(50));
+        PoolSizeAdvisor.Recommendation recommendation = advisor.evaluate();
+
+        assertTrue(recommendation.applied());
+        assertEquals(190, recommendation.maximumPoolSize());
+        assertEquals(15, recommendation.recommendedMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("Callers waiting on a fully used pool should raise the recommendation")
+    void shouldGrowWhenCallersWaitOnFullPool() {
+        maximumPoolSize.set(10);
+        PoolSizeAdvisor advisor = advisor(true, 3);
+
+        List<ConnectionUsageRecorder.Lease> leases = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            leases.add(recorder.acquired(TimeUnit.MILLISECONDS.toNanos(20)));
+        }
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        leases.forEach(ConnectionUsageRecorder.Lease::release);
+        PoolSizeAdvisor.Recommendation recommendation = advisor.evaluate();
+
+        assertEquals(20, recommendation.recommendedMaximumPoolSize());
+        assertEquals(20, recommendation.maximumPoolSize());
+        assertEquals(10, recommendation.slowAcquisitions());
+    }
+
+    private PoolSizeAdvisor advisor(boolean apply, int history) {
+        var properties = new ConnectionPoolTuningProperties(true, apply, 4, 50, 1.25, 10, Duration.ofMinutes(1),
+                history, Duration.ofMillis(5));
+        return new PoolSizeAdvisor(recorder, pool, properties, new SimpleMeterRegistry(), Clock.systemUTC());
+    }
+
+    private void useConnections(int concurrent, Duration hold) {
+        List<ConnectionUsageRecorder.Lease> leases = new ArrayList<>();
+        for (int i = 0; i < concurrent; i++) {
+            leases.add(recorder.acquired(TimeUnit.MICROSECONDS.toNanos(100)));
+        }
+        nanos.addAndGet(hold.toNanos());
+        leases.forEach(ConnectionUsageRecorder.Lease::release);
+    }
+}
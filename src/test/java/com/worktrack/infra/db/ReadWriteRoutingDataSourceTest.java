@@ -0,0 +1,107 @@
+package com.worktrack.infra.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.worktrack.infra.db.ReadWriteRoutingDataSource.Reason;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final ReadWriteRoutingDataSource routing =
+            new ReadWriteRoutingDataSource(mock(DataSource.class), mock(DataSource.class), lagMonitor);
+
+    @BeforeEach
+    void setUp() {
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endTransaction();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Connections outside a transaction should go to the primary")
+    void shouldUsePrimaryWithoutTransaction() {
+        assertEquals(Reason.NO_TRANSACTION, routing.reason());
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should go to the replica, read-write ones to the primary")
+    void shouldRouteByReadOnlyFlag() {
+        beginTransaction(true);
+        assertEquals(Reason.READ_ONLY, routing.reason());
+        endTransaction();
+
+        beginTransaction(false);
+        assertEquals(Reason.WRITE, routing.reason());
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should stay on the primary while the replica lags")
+    void shouldBypassLaggingReplica() {
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+        beginTransaction(true);
+
+        assertEquals(Reason.REPLICA_LAGGING, routing.reason());
+    }
+
+    @Test
+    @DisplayName("Read-only transactions marked as primary reads should go to the primary")
+    void shouldKeepRequiredReadsOnPrimary() {
+        beginTransaction(true);
+
+        assertEquals(Reason.PRIMARY_REQUIRED, PrimaryReads.require(routing::reason));
+        assertEquals(Reason.READ_ONLY, routing.reason());
+    }
+
+    @Test
+    @DisplayName("Reads after a committed write in the same request should go to the primary")
+    void shouldReadOwnWritesWithinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        beginTransaction(true);
+        assertEquals(Reason.READ_ONLY, routing.reason());
+        endTransaction();
+
+        beginTransaction(false);
+        assertEquals(Reason.WRITE, routing.reason());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        endTransaction();
+
+        beginTransaction(true);
+        assertEquals(Reason.READ_AFTER_WRITE, routing.reason());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertEquals(Reason.READ_ONLY, routing.reason());
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+}
@@ -0,0 +1,42 @@
+package com.worktrack.infra.db;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+
+public class ReplicaLagMonitorTest {
+
+    private final DataSource dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+
+    @Test
+    @DisplayName("A replica within the lag budget should be usable")
+    void shouldUseReplicaWithinMaxLag() {
+        var monitor = new ReplicaLagMonitor(dataSource, "SELECT 1 AS Seconds_Behind_Source", Duration.ofSeconds(2));
+
+        monitor.check();
+
+        assertTrue(monitor.isReplicaUsable());
+    }
+
+    @Test
+    @DisplayName("A server without replication status should not be treated as a healthy replica")
+    void shouldBypassServerThatIsNotReplica() {
+        var monitor = new ReplicaLagMonitor(dataSource,
+                "SELECT 0 AS Seconds_Behind_Source WHERE 1 = 0", Duration.ofSeconds(2));
+
+        monitor.check();
+
+        assertFalse(monitor.isReplicaUsable());
+    }
+}
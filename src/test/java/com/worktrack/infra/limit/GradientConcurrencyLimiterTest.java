@@ -0,0 +1,98 @@
+package com.worktrack.infra.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class GradientConcurrencyLimiterTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(
+            "standard", 20, 4, 100, 2.0, 0.2, WINDOW_NANOS, meterRegistry, clock::get);
+
+    @Test
+    @DisplayName("Requests beyond the limit should be rejected and counted")
+    void shouldRejectBeyondLimit() {
+        List<GradientConcurrencyLimiter.Permit> permits = acquire(20);
+
+        assertTrue(limiter.tryAcquire().isEmpty());
+        assertEquals(1.0, meterRegistry.get("concurrency.rejections").tag("lane", "standard").counter().count());
+        assertEquals(20.0, meterRegistry.get("concurrency.inflight").tag("lane", "standard").gauge().value());
+
+        permits.getFirst().ignore();
+        permits.getFirst().ignore();
+        assertEquals(19, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire().isPresent());
+    }
+
+    @Test
+    @DisplayName("The limit should grow while latency is stable and the limit is being used")
+    void shouldGrowWithStableLatency() {
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter.getLimit(), 10);
+        }
+
+        assertTrue(limiter.getLimit() > 20, "limit " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("The limit should shrink once latency rises well above its long-term average")
+    void shouldShrinkWhenLatencyRises() {
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter.getLimit(), 10);
+        }
+        int before = limiter.getLimit();
+
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter.getLimit(), 100);
+        }
+
+        assertTrue(limiter.getLimit() < before, "limit " + limiter.getLimit() + " was " + before);
+    }
+
+    @Test
+    @DisplayName("An overload signal should cut the limit multiplicatively")
+    void shouldBackOffOnDrop() {
+        clock.addAndGet(WINDOW_NANOS);
+        limiter.tryAcquire().orElseThrow().dropped();
+
+        assertEquals(18, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("The limit should not grow while demand stays far below it")
+    void shouldHoldLimitWhenUnderused() {
+        for (int window = 0; window < 10; window++) {
+            runWindow(2, 10);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    /** Holds {@code concurrency} permits for {@code latencyMillis}, then releases them. */
+    private void runWindow(int concurrency, long latencyMillis) {
+        List<GradientConcurrencyLimiter.Permit> permits = acquire(concurrency);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        permits.forEach(GradientConcurrencyLimiter.Permit::success);
+    }
+
+    private List<GradientConcurrencyLimiter.Permit> acquire(int count) {
+        List<GradientConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,67 @@
+package com.worktrack.infra.observability;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.worktrack.infra.observability.VirtualThreadPinningMonitor.PinningSite;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+            new VirtualThreadPinningProperties(true, Duration.ofMillis(5), Duration.ofMinutes(5), 10, 100),
+            meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("Blocking inside synchronized on a virtual thread should be reported at the blocking frame")
+    void shouldAttributePinToFirstNonJdkFrame() throws Exception {
+        assumeTrue(Runtime.version().feature() < ThreadModelStartupCheck.UNPINNED_MONITORS_FEATURE,
+                "synchronized no longer pins on this JDK");
+        monitor.start();
+
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(50);
+            }
+        }).join();
+
+        // JFR hands events to the stream about once a second.
+        List<PinningSite> sites = List.of();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (sites.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            sites = monitor.snapshot();
+        }
+
+        assertTrue(sites.stream().anyMatch(site -> site.site().startsWith(getClass().getName() + ".sleep")),
+                () -> "pinning sites: " + monitor.snapshot());
+        assertNotNull(meterRegistry.find("threads.virtual.pinning").timer());
+
+        monitor.report();
+        assertTrue(monitor.snapshot().isEmpty());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
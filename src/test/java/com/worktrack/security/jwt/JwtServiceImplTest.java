@@ -0,0 +1,82 @@
+package com.worktrack.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worktrack.entity.auth.Role;
+import com.worktrack.entity.auth.User;
+
+public class JwtServiceImplTest {
+
+    private static final String SECRET = "bCZ0MWB9STlcNV1MN2xyNClZVm1OV1hTcF8kWS42L1M=";
+    private static final String OLD_SECRET = "bG9jYWwtZGV2LXNlY3JldC1rZXktMzItYnl0ZXMhISE=";
+    private static final long EXPIRATION = 60_000;
+
+    private final User user = new User("jwtUser", "jwt.user@test.com", "password", "Jwt User", Role.MANAGER);
+
+    @Test
+    @DisplayName("Token signed with legacy secret should be parsed without kid")
+    void shouldRoundTripWithLegacySecret() {
+        var service = new JwtServiceImpl(new JwtProperties(SECRET, EXPIRATION));
+
+        String token = service.generateToken(user).token();
+
+        assertEquals("jwtUser", service.extractUsername(token));
+        assertNull(headerKeyId(token));
+    }
+
+    @Test
+    @DisplayName("Token should carry the active kid and still verify after rotation")
+    void shouldVerifyTokensSignedWithRetiredKey() {
+        var before = new JwtServiceImpl(new JwtProperties(null, EXPIRATION, "k1", Map.of("k1", OLD_SECRET)));
+        String oldToken = before.generateToken(user).token();
+
+        var after = new JwtServiceImpl(new JwtProperties(null, EXPIRATION, "k2", Map.of("k1", OLD_SECRET, "k2", SECRET)));
+        String newToken = after.generateToken(user).token();
+
+        assertEquals("k1", headerKeyId(oldToken));
+        assertEquals("k2", headerKeyId(newToken));
+        assertEquals("jwtUser", after.extractUsername(oldToken));
+        assertEquals("jwtUser", after.extractUsername(newToken));
+    }
+
+    @Test
+    @DisplayName("Token with a kid that is no longer in the keyring should be rejected")
+    void shouldRejectUnknownKeyId() {
+        var before = new JwtServiceImpl(new JwtProperties(null, EXPIRATION, "k1", Map.of("k1", OLD_SECRET)));
+        String oldToken = before.generateToken(user).token();
+
+        var after = new JwtServiceImpl(new JwtProperties(null, EXPIRATION, "k2", Map.of("k2", SECRET)));
+
+        assertThrows(BadCredentialsException.class, () -> after.extractUsername(oldToken));
+    }
+
+    @Test
+    @DisplayName("Active kid missing from the keyring should fail at startup")
+    void shouldFailFastOnMissingActiveKey() {
+        var properties = new JwtProperties(SECRET, EXPIRATION, "missing", Map.of("k1", OLD_SECRET));
+
+        assertThrows(IllegalStateException.class, () -> new JwtServiceImpl(properties));
+    }
+
+    private static String headerKeyId(String token) {
+        byte[] header = Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.')));
+        try {
+            JsonNode kid = new ObjectMapper().readTree(header).get("kid");
+            return kid == null ? null : kid.asText();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read JWT header", e);
+        }
+    }
+}
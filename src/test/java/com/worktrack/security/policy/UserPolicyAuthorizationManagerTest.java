@@ -0,0 +1,103 @@
+package com.worktrack.security.policy;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.worktrack.entity.auth.Role;
+import com.worktrack.security.auth.AuthenticatedUser;
+import com.worktrack.security.auth.AuthenticationFacadeImpl;
+import com.worktrack.security.policy.UserPolicy.Action;
+
+public class UserPolicyAuthorizationManagerTest {
+
+    public static class UserOperations {
+
+        @UserPolicyCheck(Action.READ_USER)
+        public String read(Long id) {
+            return "user " + id;
+        }
+
+        @UserPolicyCheck(Action.UPDATE_USER)
+        public String update(Long id, String name) {
+            return name;
+        }
+
+        @UserPolicyCheck(Action.LIST_USERS)
+        public String list() {
+            return "users";
+        }
+    }
+
+    private final AuthenticationFacadeImpl authenticationFacade = new AuthenticationFacadeImpl();
+    private final UserOperations operations = proxy(new UserPolicy(authenticationFacade));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Admins should pass every check")
+    void shouldAllowAdmin() {
+        authenticate(1L, Role.ADMIN);
+
+        assertDoesNotThrow(() -> operations.read(2L));
+        assertDoesNotThrow(() -> operations.update(2L, "renamed"));
+        assertDoesNotThrow(() -> operations.list());
+    }
+
+    @Test
+    @DisplayName("Other roles should only reach their own user")
+    void shouldLimitEmployeeToSelf() {
+        authenticate(7L, Role.EMPLOYEE);
+
+        assertDoesNotThrow(() -> operations.read(7L));
+        assertDoesNotThrow(() -> operations.update(7L, "renamed"));
+        assertThrows(AuthorizationDeniedException.class, () -> operations.read(8L));
+        assertThrows(AuthorizationDeniedException.class, () -> operations.update(8L, "renamed"));
+        assertThrows(AuthorizationDeniedException.class, () -> operations.list());
+    }
+
+    @Test
+    @DisplayName("The authorization context should be resolved once per request and authentication")
+    void shouldReuseContextWithinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        authenticate(7L, Role.EMPLOYEE);
+
+        var first = authenticationFacade.getAuthorizationContext();
+        assertSame(first, authenticationFacade.getAuthorizationContext());
+
+        authenticate(1L, Role.ADMIN);
+        assertDoesNotThrow(() -> operations.list());
+    }
+
+    private static void authenticate(Long id, Role role) {
+        var user = new AuthenticatedUser(id, "user" + id, role, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.authorities()));
+    }
+
+    private static UserOperations proxy(UserPolicy userPolicy) {
+        var factory = new ProxyFactory(new UserOperations());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new AuthorizationManagerBeforeMethodInterceptor(
+                new AnnotationMatchingPointcut(null, UserPolicyCheck.class, true),
+                new UserPolicyAuthorizationManager(() -> userPolicy)));
+        return (UserOperations) factory.getProxy();
+    }
+}
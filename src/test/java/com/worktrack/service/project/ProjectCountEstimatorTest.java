@@ -0,0 +1,63 @@
+package com.worktrack.service.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.worktrack.entity.base.Status;
+import com.worktrack.repo.ProjectRepository;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
+
+public class ProjectCountEstimatorTest {
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final SoftDeleteFilter softDeleteFilter = mock(SoftDeleteFilter.class);
+    private final ProjectCountEstimator estimator = new ProjectCountEstimator(projectRepository, softDeleteFilter);
+
+    @BeforeEach
+    void setUp() {
+        when(softDeleteFilter.includingDeleted(any())).thenAnswer(call -> call.<Supplier<?>>getArgument(0).get());
+        when(projectRepository.countGroupedByStatus()).thenReturn(List.<Object[]>of(new Object[]{Status.ACTIVE, 10L}));
+        estimator.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Adjustments inside a transaction should apply only after commit")
+    void shouldApplyAdjustmentAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        estimator.adjust(Status.ACTIVE, 1);
+        assertEquals(10L, estimator.estimate(Status.ACTIVE));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(11L, estimator.estimate(Status.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("Adjustments of a rolled back transaction should be dropped")
+    void shouldDropAdjustmentOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        estimator.adjust(Status.ACTIVE, 1);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(10L, estimator.estimate(Status.ACTIVE));
+    }
+}
@@ -0,0 +1,38 @@
+package com.worktrack.service.project;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.worktrack.entity.project.TaskStatus;
+import com.worktrack.repo.ProjectTaskStatsRepository;
+import com.worktrack.repo.TaskRepository;
+
+public class ProjectTaskStatsServiceTest {
+
+    private final ProjectTaskStatsRepository statsRepository = mock(ProjectTaskStatsRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ProjectTaskStatsService service = new ProjectTaskStatsService(statsRepository, taskRepository);
+
+    @Test
+    @DisplayName("A status change should move one task between counters")
+    void shouldMoveTaskBetweenCounters() {
+        when(statsRepository.increment(1L, -1, 1, 0)).thenReturn(1);
+
+        service.statusChanged(1L, TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+        verify(statsRepository).increment(1L, -1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("A change to the same status should leave the counters alone")
+    void shouldIgnoreChangeToSameStatus() {
+        service.statusChanged(1L, TaskStatus.DONE, TaskStatus.DONE);
+
+        verifyNoInteractions(statsRepository, taskRepository);
+    }
+}
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -18,7 +19,9 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,8 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -42,7 +47,9 @@ import com.worktrack.entity.auth.User;
 import com.worktrack.entity.base.Status;
 import com.worktrack.exception.EntityNotFoundException;
 import com.worktrack.exception.user.DuplicateUserException;
+import com.worktrack.infra.cache.CacheNames;
 import com.worktrack.mapper.UserResponseMapper;
+import com.worktrack.repo.hibernate.SoftDeleteFilter;
 import com.worktrack.repo.user.UserRepository;
 import com.worktrack.util.UserTestUtils;
 
@@ -61,12 +68,24 @@ public class UserServiceImplTest {
     @Mock
     private CacheManager cacheManager;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SoftDeleteFilter softDeleteFilter;
+
     @InjectMocks
     private UserServiceImpl userService;
 
     @Captor
     ArgumentCaptor<User> userCaptor;
 
+    @BeforeEach
+    void runQueriesThroughSoftDeleteFilter() {
+        lenient().when(softDeleteFilter.includingDeleted(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
 
     @Nested
     @DisplayName("register() method")
@@ -239,6 +258,23 @@ public class UserServiceImplTest {
         verify(userRepository).findActiveByUsername(user.getUsername());
     }
 
+    @Test
+    void shouldReturnSnapshotWhenFoundByUsername() {
+        // Arrange
+        User user = UserTestUtils.dummyUserWithId(1L);
+        when(userRepository.findActiveByUsername(user.getUsername()))
+                .thenReturn(Optional.of(user));
+
+        // Act
+        Optional<UserSnapshot> result = userService.findSnapshotByUsername(user.getUsername());
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(UserSnapshot.from(user), result.get());
+        assertEquals(1L, result.get().id());
+        assertEquals(user.getRole(), result.get().role());
+    }
+
     @Test
     void shouldReturnEmptyWhenUserNotFoundByUsername() {
         // Arrange
@@ -268,6 +304,7 @@ public class UserServiceImplTest {
         // Assert
         assertEquals(Status.DELETED, user.getStatus());
         verify(userRepository).save(user);
+        verify(eventPublisher).publishEvent(new UserCacheEvictedEvent(user.getId(), user.getUsername()));
     }
 
     @Test
@@ -311,7 +348,24 @@ public class UserServiceImplTest {
         assertNotNull(result);
         assertEquals(user.getUsername(), result.username());
         verify(userRepository).findActiveById(1L);
-        verify(userResponseMapper).toDto(user);
+        verify(userResponseMapper).toDto(UserSnapshot.from(user));
+    }
+
+    @Test
+    void shouldServeSnapshotByIdFromCacheAfterFirstLookup() {
+        // Arrange
+        User user = UserTestUtils.dummyUserWithId(1L);
+        when(cacheManager.getCache(CacheNames.USERS_BY_ID)).thenReturn(new ConcurrentMapCache(CacheNames.USERS_BY_ID));
+        when(userRepository.findActiveById(1L)).thenReturn(Optional.of(user));
+
+        // Act
+        UserSnapshot first = userService.findSnapshotByIdForced(1L);
+        UserSnapshot second = userService.findSnapshotByIdForced(1L);
+
+        // Assert
+        assertEquals(UserSnapshot.from(user), first);
+        assertSame(first, second);
+        verify(userRepository).findActiveById(1L);
     }
 
     @Test